@@ -0,0 +1,130 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+public final class AllocationCheck {
+    private static final int Rounds = 100;
+    private static final int Fillings = 19683;
+    private static final ThreadMXBean Bean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+    private static int[] Datas;
+    private static int[] Tabled;
+    private static int[] Scanned;
+    private static Game Ga;
+    private static int Sink;
+    private static void fill() {
+        Datas = new int[Fillings];
+        int[] Cases = new int[Fillings];
+        int[] Gaps = new int[Fillings];
+        int Tables = 0;
+        int Scans = 0;
+        Board Bd = new Board(0);
+        for (int n = 0; n < Fillings; ++n) {
+            int Gap = 0;
+            for (int i = 1, k = n; i <= 9; ++i, k /= 3) {
+                Bd.set(i, Chess.from(k % 3));
+                if (k % 3 == Chess.O.toInt()) { ++Gap; }
+                else if (k % 3 == Chess.X.toInt()) { --Gap; }
+            }
+            Datas[n] = Bd.getData();
+            Cases[n] = Bd.getCase();
+            Gaps[n] = Gap;
+            if (Gap == 0 || Gap == 1) { ++Tables; }
+            else if (Math.abs(Gap) > 1) { ++Scans; }
+        }
+        Tabled = new int[Tables];
+        Scanned = new int[Scans];
+        for (int n = 0, t = 0, s = 0; n < Fillings; ++n) {
+            if (Gaps[n] == 0 || Gaps[n] == 1) { Tabled[t++] = Cases[n]; }
+            else if (Math.abs(Gaps[n]) > 1) { Scanned[s++] = Cases[n]; }
+        }
+    }
+    private static long parse() {
+        for (int Data : Datas) {
+            for (int s = 0; s < 16; ++s) { Sink += Symmetry.parse(Data, s); }
+        }
+        return (long)Datas.length * 16;
+    }
+    private static long scan() {
+        for (int Case : Scanned) { Sink += Rules.checkResponse(Case); }
+        return Scanned.length;
+    }
+    private static long response() {
+        for (int Case : Tabled) { Sink += Rules.checkResponse(Case); }
+        return Tabled.length;
+    }
+    private static long result() {
+        for (int Case : Tabled) { Sink += Rules.checkResult(Case).toInt(); }
+        return Tabled.length;
+    }
+    private static long lines() {
+        for (int Data : Datas) {
+            for (int i = 1; i <= 9; ++i) { Sink += Rules.checkResult(Data, i).toInt(); }
+        }
+        return (long)Datas.length * 9;
+    }
+    private static long play() {
+        long Moves = 0;
+        for (int n = 0; n < 64; ++n) {
+            for (int i = 1 + n % 9; Ga.getRe() == Result.Empty; i = i % 9 + 1) {
+                if (Ga.putChess(i)) { ++Moves; }
+            }
+            while (Ga.undo()) { Sink += Ga.getData(); }
+        }
+        return Moves;
+    }
+    private static void check(String name, LongSupplier run) {
+        for (int n = 0; n < Rounds; ++n) { run.getAsLong(); }
+        long Calls = 0;
+        long Start = Bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        for (int n = 0; n < Rounds; ++n) { Calls += run.getAsLong(); }
+        long Bytes = Bean.getThreadAllocatedBytes(Thread.currentThread().getId()) - Start;
+        System.out.printf("%-10s %12d calls %10d bytes%n", name, Calls, Bytes);
+        if (Bytes != 0) { throw new IllegalStateException(name + " allocated " + Bytes + " bytes over " + Calls + " calls"); }
+    }
+    public static void main(String[] args) {
+        fill();
+        Ga = new Game(new RuleResponder(), Policies.first());
+        Ga.newGame(Mode.Attacker);
+        check("parse", AllocationCheck::parse);
+        check("scan", AllocationCheck::scan);
+        check("response", AllocationCheck::response);
+        check("result", AllocationCheck::result);
+        check("lines", AllocationCheck::lines);
+        check("play", AllocationCheck::play);
+        System.out.println("ok");
+    }
+}
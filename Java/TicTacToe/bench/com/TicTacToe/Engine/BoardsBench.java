@@ -0,0 +1,92 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BoardsBench {
+    @State(Scope.Benchmark)
+    public static class Shared {
+        private int[] Datas;
+        @Setup
+        public void setup() {
+            Datas = Positions.sample(0x7ACL);
+        }
+    }
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int Index;
+        private int next() {
+            Index = (Index + 1) & (Positions.Size - 1);
+            return Index;
+        }
+    }
+    private static int decode(int data) {
+        int Rst = Boards.getMode(data).toInt() + Boards.getTurn(data).toInt() + Boards.getResult(data).toInt();
+        for (int i = 1; i <= 9; ++i) {
+            Rst += Boards.get(data, i).toInt();
+        }
+        return Rst;
+    }
+    private static int transform(int data, int n) {
+        int Rst = Boards.with(data, 1 + n % 9, Chess.Preferred);
+        Rst = Boards.withRound(Rst, Boards.getRound(Rst) + 1);
+        return Boards.reflect(Boards.rotate(Rst, n & 7), Orientation.from(n & 3));
+    }
+    @Benchmark
+    @Threads(1)
+    public int decodeSingle(Shared shared, Cursor cursor) {
+        return decode(shared.Datas[cursor.next()]);
+    }
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int decodeAll(Shared shared, Cursor cursor) {
+        return decode(shared.Datas[cursor.next()]);
+    }
+    @Benchmark
+    @Threads(1)
+    public int transformSingle(Shared shared, Cursor cursor) {
+        return transform(shared.Datas[cursor.next()], cursor.Index);
+    }
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int transformAll(Shared shared, Cursor cursor) {
+        return transform(shared.Datas[cursor.next()], cursor.Index);
+    }
+}
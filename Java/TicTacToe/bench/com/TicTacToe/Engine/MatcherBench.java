@@ -0,0 +1,85 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+@State(Scope.Thread)
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "--add-modules", "jdk.incubator.vector" })
+public class MatcherBench {
+    @Param({ "scalar", "vector" })
+    private String Name;
+    private Matcher Mt;
+    private int[] Cases;
+    private int Index;
+    @Setup
+    public void setup() {
+        int Sz = 0;
+        for (int r = 0; r < Rules.getRules() - 1; ++r) {
+            Sz += Rules.getMatch(r).size();
+        }
+        int[] Masks = new int[Sz];
+        int[] Matches = new int[Sz];
+        for (int n = 0, r = 0; r < Rules.getRules() - 1; ++r) {
+            for (int i = 0; i < Rules.getMatch(r).size(); ++i, ++n) {
+                Masks[n] = Rules.getMask(r).getCase(i);
+                Matches[n] = Rules.getMatch(r).getMatch(i);
+            }
+        }
+        Mt = Name.equals("vector") ? Matchers.vector(Masks, Matches) : Matchers.scalar(Masks, Matches);
+        if (Mt == null) { throw new IllegalStateException("VectorMatcher is not on the class path"); }
+        Cases = Positions.cases(Positions.sample(0x7ACL));
+    }
+    private int next() {
+        Index = (Index + 1) & (Positions.Size - 1);
+        return Cases[Index];
+    }
+    @Benchmark
+    public int match() {
+        return Mt.match(next());
+    }
+    @Benchmark
+    public int matchAll() {
+        int Board = next();
+        int Rst = 0;
+        for (int n = Mt.match(Board); n >= 0; n = Mt.match(Board, n + 1)) {
+            ++Rst;
+        }
+        return Rst;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.Arrays;
+public final class ScanCheck {
+    private static final int Passes = 64;
+    private static final Responder Expected = new RuleResponder();
+    private static boolean[] Seen;
+    private static int[] Positions;
+    private static int Size;
+    private static void walk(int data) {
+        if (Board.getBits(data, Board.IResult) != Result.Empty.toInt()) { return; }
+        if (Board.getBits(data, Board.ITurn) == Turn.Response.toInt()) {
+            int Field = Board.getField(Board.getCase(data));
+            if (!Seen[Field]) {
+                Seen[Field] = true;
+                Positions[Size++] = data;
+            }
+        }
+        for (int i = 1; i <= 9; ++i) {
+            if (Board.getBits(data, i) == Chess.None.toInt()) { walk(Journal.play(data, i)); }
+        }
+    }
+    private static int check(ScanResponder responder) {
+        int Mismatches = 0;
+        for (int n = 0; n < Size; ++n) {
+            int Data = Positions[n];
+            int Got = responder.checkResponse(Data);
+            int Want = Expected.checkResponse(Data);
+            if (Got == Want) { continue; }
+            if (Mismatches++ < 8) { System.out.printf("%s: %9s instead of %9s%n", new Board(Board.getCase(Data)), Integer.toBinaryString(Got), Integer.toBinaryString(Want)); }
+        }
+        return Mismatches;
+    }
+    public static void main(String[] args) {
+        Seen = new boolean[1 << 18];
+        Positions = new int[1 << 13];
+        walk(new Board(Mode.Attacker).getData());
+        walk(new Board(Mode.Defender).getData());
+        int Mismatches = check(new ScanResponder(false));
+        ScanResponder Adaptive = new ScanResponder(true);
+        int[] First = Adaptive.getOrder();
+        for (int p = 0; p < Passes; ++p) { Mismatches += check(Adaptive); }
+        boolean Reordered = !Arrays.equals(First, Adaptive.getOrder());
+        System.out.printf("%d positions, %d passes, %s, %d mismatches%n", Size, Passes + 1, Reordered ? "reordered" : "not reordered", Mismatches);
+        if (Mismatches != 0) { throw new IllegalStateException(Mismatches + " mismatches against the RuleResponder"); }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TablebaseBench {
+    private static final String Path = System.getProperty("TicTacToe.tablebase", "Tablebase.bin");
+    @State(Scope.Thread)
+    public static class Lookup {
+        private Solver Sv;
+        private Tablebase Tb;
+        private int[] Datas;
+        private int Index;
+        @Setup
+        public void setup() throws IOException {
+            Sv = new Solver();
+            Tb = new Tablebase(Paths.get(Path));
+            Datas = Positions.sample(0x7ACL);
+        }
+        @TearDown
+        public void tearDown() throws IOException {
+            Tb.close();
+        }
+        private int next() {
+            Index = (Index + 1) & (Positions.Size - 1);
+            return Datas[Index];
+        }
+    }
+    @Benchmark
+    @BenchmarkMode(org.openjdk.jmh.annotations.Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(value = 10, jvmArgsAppend = "-Djava.awt.headless=true")
+    public int coldSolver() {
+        return new Solver().checkResponse(new Board(Mode.Attacker).getData());
+    }
+    @Benchmark
+    @BenchmarkMode(org.openjdk.jmh.annotations.Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(value = 10, jvmArgsAppend = "-Djava.awt.headless=true")
+    public int coldTablebase() throws IOException {
+        try (Tablebase Tb = new Tablebase(Paths.get(Path))) {
+            return Tb.checkResponse(new Board(Mode.Attacker).getData());
+        }
+    }
+    @Benchmark
+    @BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int solverResponse(Lookup lookup) {
+        return lookup.Sv.checkResponse(lookup.next());
+    }
+    @Benchmark
+    @BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int tablebaseResponse(Lookup lookup) {
+        return lookup.Tb.checkResponse(lookup.next());
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.lang.management.ManagementFactory;
+import com.TicTacToe.Engine.*;
+class BoardView extends JComponent {
+    private static final long serialVersionUID = 1L;
+    private static final boolean Timing = Boolean.getBoolean("TicTacToe.timing");
+    private static final Color WindowStatic = new Color(0xF0F0F0);
+    private static final Color ControlStatic = new Color(0xFDFDFD);
+    private static final Color ControlHover = new Color(0xE0EEF9);
+    private static final Color BorderStatic = new Color(0xD0D0D0);
+    private static final Color BorderHover = new Color(0x0078D4);
+    private static final Color ChessO = new Color(0x008000);
+    private static final Color ChessX = new Color(0xFF0000);
+    private static final Color TextDisabled = new Color(0xA0A0A0);
+    private static final Font FontChess = new Font("Consoles", Font.BOLD, 20);
+    private static final Font FontButton = new Font("Dialog", Font.BOLD, 12);
+    private static final String[] Names = new String[] { "", "1", "2", "3", "4", "5", "6", "7", "8", "9", "Switch", "Reset" };
+    private static final Rectangle[] Bounds = new Rectangle[] {
+        null,
+        new Rectangle(12, 12, 80, 80), new Rectangle(98, 12, 80, 80), new Rectangle(184, 12, 80, 80),
+        new Rectangle(12, 98, 80, 80), new Rectangle(98, 98, 80, 80), new Rectangle(184, 98, 80, 80),
+        new Rectangle(12, 184, 80, 80), new Rectangle(98, 184, 80, 80), new Rectangle(184, 184, 80, 80),
+        new Rectangle(12, 270, 123, 35), new Rectangle(141, 270, 123, 35),
+    };
+    private static final int Switch = 10;
+    private static final int Reset = 11;
+    private final Chess[] Chesses;
+    private boolean ResetEnabled;
+    private int Hover;
+    private int Pressed;
+    private int Focus;
+    private boolean Painted;
+    private long Input;
+    public BoardView() {
+        Chesses = new Chess[10];
+        for (int i = 1; i <= 9; ++i) {
+            Chesses[i] = Chess.None;
+        }
+        Focus = 1;
+        setName("BoardView");
+        setOpaque(true);
+        setFocusable(true);
+        setFocusTraversalKeysEnabled(false);
+        setPreferredSize(new Dimension(276, 317));
+        ViewListener Listener = new ViewListener();
+        addMouseListener(Listener);
+        addMouseMotionListener(Listener);
+        addKeyListener(Listener);
+        addFocusListener(Listener);
+    }
+    public void addActionListener(ActionListener listener) {
+        listenerList.add(ActionListener.class, listener);
+    }
+    public void setChess(int i, Chess value) {
+        if (Chesses[i] == value) { return; }
+        Chesses[i] = value;
+        repaint(Bounds[i]);
+    }
+    public void setResetEnabled(boolean value) {
+        if (ResetEnabled == value) { return; }
+        ResetEnabled = value;
+        if (!value && Focus == Reset) { Focus = Switch; repaint(Bounds[Switch]); }
+        repaint(Bounds[Reset]);
+    }
+    public void markInput() {
+        if (Timing) { Input = System.nanoTime(); }
+    }
+    private boolean isEnabled(int i) {
+        return i != Reset || ResetEnabled;
+    }
+    private int locate(Point p) {
+        for (int i = 1; i < Bounds.length; ++i) {
+            if (Bounds[i].contains(p)) { return i; }
+        }
+        return 0;
+    }
+    private void setHover(int i) {
+        if (Hover == i) { return; }
+        if (Hover != 0) { repaint(Bounds[Hover]); }
+        Hover = i;
+        if (Hover != 0) { repaint(Bounds[Hover]); }
+    }
+    private void setFocus(int i) {
+        if (Focus == i) { return; }
+        repaint(Bounds[Focus]);
+        Focus = i;
+        repaint(Bounds[Focus]);
+    }
+    private void moveFocus(int step) {
+        int i = Focus;
+        do {
+            i = (i + step + Bounds.length - 2) % (Bounds.length - 1) + 1;
+        } while (!isEnabled(i));
+        setFocus(i);
+    }
+    private void moveRow(int step) {
+        int i = Focus;
+        if (step > 0) {
+            if (i <= 6) { i += 3; }
+            else if (i <= 9) { i = i == 9 && isEnabled(Reset) ? Reset : Switch; }
+        } else {
+            if (i == Switch) { i = 7; }
+            else if (i == Reset) { i = 9; }
+            else if (i > 3) { i -= 3; }
+        }
+        setFocus(i);
+    }
+    private void activate(int i) {
+        if (i == 0 || !isEnabled(i)) { return; }
+        markInput();
+        ActionEvent Ev = new ActionEvent(this, ActionEvent.ACTION_PERFORMED, Names[i]);
+        for (ActionListener L : listenerList.getListeners(ActionListener.class)) {
+            L.actionPerformed(Ev);
+        }
+    }
+    @Override
+    protected void paintComponent(Graphics g) {
+        long Start = System.nanoTime();
+        Graphics2D G = (Graphics2D)g;
+        G.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        Rectangle Clip = G.getClipBounds();
+        G.setColor(WindowStatic);
+        if (Clip == null) { G.fillRect(0, 0, getWidth(), getHeight()); }
+        else { G.fillRect(Clip.x, Clip.y, Clip.width, Clip.height); }
+        for (int i = 1; i < Bounds.length; ++i) {
+            if (Clip == null || Clip.intersects(Bounds[i])) { paintRegion(G, i); }
+        }
+        if (!Timing) { return; }
+        long End = System.nanoTime();
+        if (!Painted) {
+            Painted = true;
+            System.err.printf("First frame %d ms after launch%n", System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime());
+        }
+        if (Input != 0) {
+            System.err.printf("Move painted %.1f us after input, %.1f us of it painting%n", (End - Input) / 1e3, (End - Start) / 1e3);
+            Input = 0;
+        }
+    }
+    private void paintRegion(Graphics2D g, int i) {
+        Rectangle R = Bounds[i];
+        g.setColor(Hover == i && isEnabled(i) ? ControlHover : ControlStatic);
+        g.fillRect(R.x, R.y, R.width, R.height);
+        g.setColor(Focus == i && hasFocus() ? BorderHover : BorderStatic);
+        g.drawRect(R.x, R.y, R.width - 1, R.height - 1);
+        String Text;
+        if (i == Switch || i == Reset) {
+            Text = Names[i];
+            g.setFont(FontButton);
+            g.setColor(isEnabled(i) ? Color.black : TextDisabled);
+        } else if (Chesses[i] == Chess.O) {
+            Text = "O";
+            g.setFont(FontChess);
+            g.setColor(ChessO);
+        } else if (Chesses[i] == Chess.X) {
+            Text = "X";
+            g.setFont(FontChess);
+            g.setColor(ChessX);
+        } else {
+            return;
+        }
+        FontMetrics Fm = g.getFontMetrics();
+        g.drawString(Text, R.x + (R.width - Fm.stringWidth(Text)) / 2, R.y + (R.height - Fm.getHeight()) / 2 + Fm.getAscent());
+    }
+    private class ViewListener implements MouseListener, MouseMotionListener, KeyListener, FocusListener {
+        @Override
+        public void mouseClicked(MouseEvent e) {
+        }
+        @Override
+        public void mousePressed(MouseEvent e) {
+            requestFocusInWindow();
+            if (SwingUtilities.isLeftMouseButton(e)) { Pressed = locate(e.getPoint()); }
+        }
+        @Override
+        public void mouseReleased(MouseEvent e) {
+            if (!SwingUtilities.isLeftMouseButton(e)) { return; }
+            int i = locate(e.getPoint());
+            if (i != 0 && i == Pressed && isEnabled(i)) {
+                setFocus(i);
+                activate(i);
+            }
+            Pressed = 0;
+        }
+        @Override
+        public void mouseEntered(MouseEvent e) {
+            setHover(locate(e.getPoint()));
+        }
+        @Override
+        public void mouseExited(MouseEvent e) {
+            setHover(0);
+        }
+        @Override
+        public void mouseMoved(MouseEvent e) {
+            setHover(locate(e.getPoint()));
+        }
+        @Override
+        public void mouseDragged(MouseEvent e) {
+            setHover(locate(e.getPoint()));
+        }
+        @Override
+        public void keyPressed(KeyEvent e) {
+            if (e.getKeyCode() == KeyEvent.VK_TAB) { moveFocus(e.isShiftDown() ? -1 : 1); }
+            else if (e.getKeyCode() == KeyEvent.VK_RIGHT) { moveFocus(1); }
+            else if (e.getKeyCode() == KeyEvent.VK_LEFT) { moveFocus(-1); }
+            else if (e.getKeyCode() == KeyEvent.VK_DOWN) { moveRow(1); }
+            else if (e.getKeyCode() == KeyEvent.VK_UP) { moveRow(-1); }
+            else if (e.getKeyCode() == KeyEvent.VK_SPACE || e.getKeyCode() == KeyEvent.VK_ENTER) { activate(Focus); }
+            else { markInput(); }
+        }
+        @Override
+        public void keyReleased(KeyEvent e) {
+        }
+        @Override
+        public void keyTyped(KeyEvent e) {
+        }
+        @Override
+        public void focusGained(FocusEvent e) {
+            repaint(Bounds[Focus]);
+        }
+        @Override
+        public void focusLost(FocusEvent e) {
+            repaint(Bounds[Focus]);
+        }
+    }
+}
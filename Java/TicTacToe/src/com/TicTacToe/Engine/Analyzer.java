@@ -0,0 +1,171 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+public class Analyzer {
+    private static final int Capacity = 1 << 16;
+    private static final byte[] Chesses = new byte[] { '_', 'X', 'O', '+' };
+    private static final byte[][] Results;
+    private static final byte[] Error = new byte[] { 'E', '\n' };
+    static {
+        Results = new byte[4][];
+        for (int r = 0; r < Results.length; ++r) {
+            Results[r] = (" " + Result.from(r) + " ").getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+    private final Responder Rs;
+    private final Policy Po;
+    private final ByteBuffer In;
+    private final ByteBuffer Out;
+    private final byte[] Input;
+    private final byte[] Output;
+    private int Length;
+    private boolean Inside;
+    private int Cells;
+    private int Data;
+    private boolean Broken;
+    private long Count;
+    public Analyzer(Responder responder) {
+        Rs = responder;
+        Po = Policies.first();
+        In = ByteBuffer.allocateDirect(Capacity);
+        Out = ByteBuffer.allocateDirect(Capacity);
+        Input = new byte[Capacity];
+        Output = new byte[Capacity];
+    }
+    public long getCount() {
+        return Count;
+    }
+    public long run(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        In.clear();
+        Length = 0;
+        while (in.read(In) != -1) {
+            In.flip();
+            int Sz = In.remaining();
+            In.get(Input, 0, Sz);
+            for (int k = 0; k < Sz; ++k) {
+                parse(Input[k], out);
+            }
+            In.clear();
+        }
+        flush(out);
+        return Count;
+    }
+    private void parse(byte b, WritableByteChannel out) throws IOException {
+        if (b == '[') {
+            Inside = true;
+            Cells = 0;
+            Data = 0;
+            Broken = false;
+        } else if (!Inside || b == ' ' || b == ',') {
+            return;
+        } else if (b == ']') {
+            Inside = false;
+            if (Output.length - Length < 64) { flush(out); }
+            if (Broken || Cells != 9) { put(Error); }
+            else { analyze(Data); }
+            ++Count;
+        } else if (Cells == 9) {
+            Broken = true;
+        } else {
+            int Piece = b == '_' || b == '+' ? Chess.None.toInt() : b == 'O' ? Chess.O.toInt() : b == 'X' ? Chess.X.toInt() : -1;
+            if (Piece < 0) { Broken = true; }
+            else { Data = Board.setBits(Data, ++Cells, Piece); }
+        }
+    }
+    private void analyze(int data) {
+        int Os = 0;
+        int Xs = 0;
+        for (int i = 1; i <= 9; ++i) {
+            int Piece = Board.getBits(data, i);
+            if (Piece == Chess.O.toInt()) { ++Os; }
+            else if (Piece == Chess.X.toInt()) { ++Xs; }
+        }
+        if (Math.abs(Os - Xs) > 1) {
+            put(Error);
+            return;
+        }
+        int Case = Board.getCase(data);
+        Result Over = Rules.checkResult(Case);
+        if (Over == Result.Empty && Os + Xs == 9) { Over = Result.Tied; }
+        if (Over != Result.Empty) {
+            Output[Length++] = '-';
+        } else {
+            int Asked = data;
+            if (Xs > Os) {
+                for (int i = 1; i <= 9; ++i) {
+                    int Piece = Board.getBits(Asked, i);
+                    if (Piece != Chess.None.toInt()) { Asked = Board.setBits(Asked, i, Piece ^ Chess.Preferred.toInt()); }
+                }
+            }
+            Mode Mo = Os + Xs == Math.max(Os, Xs) * 2 ? Mode.Defender : Mode.Attacker;
+            Asked = Board.setBits(Asked, Board.IMode, Mo.toInt());
+            Asked = Board.setBits(Asked, Board.ITurn, Turn.Response.toInt());
+            Asked = Board.setBits(Asked, Board.IRound, Os + Xs);
+            Output[Length++] = (byte)('0' + Po.choose(Rs.checkResponse(Asked)));
+        }
+        put(Results[Over.toInt()]);
+        int Base = Canonical.toCanonical(data);
+        Output[Length++] = '[';
+        Output[Length++] = ' ';
+        for (int i = 1; i <= 9; ++i) {
+            Output[Length++] = Chesses[Board.getBits(Base, i)];
+            if (i == 3 || i == 6) {
+                Output[Length++] = ',';
+                Output[Length++] = ' ';
+            }
+        }
+        Output[Length++] = ' ';
+        Output[Length++] = ']';
+        Output[Length++] = '\n';
+    }
+    private void put(byte[] bytes) {
+        System.arraycopy(bytes, 0, Output, Length, bytes.length);
+        Length += bytes.length;
+    }
+    private void flush(WritableByteChannel out) throws IOException {
+        Out.clear();
+        Out.put(Output, 0, Length);
+        Length = 0;
+        Out.flip();
+        while (Out.hasRemaining()) {
+            out.write(Out);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.ArrayList;
+public class Board {
+    private static final int First3 = 0x3F00;
+    private static final int Box = 0b11;
+    private static final int Side = 0b1;
+    private static final int Form = 0b10;
+    static final int P1 = 0b1;
+    static final int P2 = 0b10;
+    static final int P4 = 0b100;
+    static final int P8 = 0b1000;
+    static final int IRound = 0;
+    static final int IMode = 10;
+    static final int ITurn = 11;
+    static final int IResult = 12;
+    static final int IState = 13;
+    private static final int Chesses = 0x300FFFF;
+    private static final int[] Offset;
+    private static final int[] Mask;
+    private static final int[] CaseOffset;
+    static {
+        CaseOffset = new int[] { 20, 18, 16, 12, 10, 8, 4, 2, 0 };
+        Offset = new int[] { 20, 12, 10, 8, 14, 24, 6, 0, 2, 4, 30, 28, 26, 16 };
+        Mask = new int[Offset.length];
+        Mask[IRound] = 0xF00000;
+        Mask[IState] = 0xF0000;
+        for (int i = 1; i < Offset.length - 1; ++i) {
+            Mask[i] = Box << Offset[i];
+        }
+    }
+    static int getBits(int data, int i) {
+        return (data & Mask[i]) >>> Offset[i];
+    }
+    static int setBits(int data, int i, int value) {
+        return (data & ~Mask[i]) | ((value << Offset[i]) & Mask[i]);
+    }
+    private int Data;
+    public int getData() {
+        return Data;
+    }
+    public void setData(int value) {
+        Data = value;
+    }
+    public Chess get(int i) {
+        if (i < 1 || i > 9) { throw new IndexOutOfBoundsException(); }
+        return Chess.from((Data & Mask[i]) >>> Offset[i]);
+    }
+    public void set(int i, Chess value) {
+        if (i < 1 || i > 9) { throw new IndexOutOfBoundsException(); }
+        Data &= ~Mask[i];
+        Data |= (value.toInt() << Offset[i]) & Mask[i];
+    }
+    public Mode getMode() {
+        return Mode.from((Data & Mask[IMode]) >>> Offset[IMode]);
+    }
+    public void setMode(Mode value) {
+        Data &= ~Mask[IMode];
+        Data |= (value.toInt() << Offset[IMode]) & Mask[IMode];
+    }
+    public Mode getConjugateSide() {
+        return Mode.from((getMode().toInt() & Form) | (~getMode().toInt() & Side));
+    }
+    public Mode getConjugateForm() {
+        return Mode.from((getMode().toInt() & Side) | (~getMode().toInt() & Form));
+    }
+    public boolean onDefenderSide() {
+        return (getMode().toInt() & Side) == Side;
+    }
+    public boolean inDebugForm() {
+        return (getMode().toInt() & Form) == Form;
+    }
+    public Turn getTurn() {
+        return Turn.from((Data & Mask[ITurn]) >>> Offset[ITurn]);
+    }
+    public void setTurn(Turn value) {
+        Data &= ~Mask[ITurn];
+        Data |= (value.toInt() << Offset[ITurn]) & Mask[ITurn];
+    }
+    public Result getResult() {
+        return Result.from((Data & Mask[IResult]) >>> Offset[IResult]);
+    }
+    public void setResult(Result value) {
+        Data &= ~Mask[IResult];
+        Data |= (value.toInt() << Offset[IResult]) & Mask[IResult];
+    }
+    public int getRound() {
+        return (Data & Mask[IRound]) >>> Offset[IRound];
+    }
+    public void setRound(int value) {
+        Data &= ~Mask[IRound];
+        Data |= (value << Offset[IRound]) & Mask[IRound];
+    }
+    public int getState() {
+        return (Data & Mask[IState]) >>> Offset[IState];
+    }
+    private void setState(int value) {
+        Data &= ~Mask[IState];
+        Data |= (value << Offset[IState]) & Mask[IState];
+    }
+    public int getMoves() {
+        return getState() & 0b111;
+    }
+    public Orientation getOrient() {
+        return Orientation.from(getState() & Box);
+    }
+    public boolean getParse1() {
+        return (getState() & P1) == P1;
+    }
+    public void setParse1(boolean value) {
+        boolean Origin = (getState() & P1) == P1;
+        if (Origin == value) { return; }
+        if (value) {
+            rotate(1);
+            setState(getState() | P1);
+        } else {
+            rotate(-1);
+            setState(getState() & ~P1);
+        }
+    }
+    public boolean getParse2() {
+        return (getState() & P2) == P2;
+    }
+    public void setParse2(boolean value) {
+        boolean Origin = (getState() & P2) == P2;
+        if (Origin == value) { return; }
+        if (value) {
+            rotate(2);
+            setState(getState() | P2);
+        } else {
+            rotate(-2);
+            setState(getState() & ~P2);
+        }
+    }
+    public boolean getParse4() {
+        return (getState() & P4) == P4;
+    }
+    public void setParse4(boolean value) {
+        boolean Origin = (getState() & P4) == P4;
+        if (Origin == value) { return; }
+        if (value) {
+            rotate(4);
+            setState(getState() | P4);
+        } else {
+            rotate(-4);
+            setState(getState() & ~P4);
+        }
+    }
+    public boolean getParse8() {
+        return (getState() & P8) == P8;
+    }
+    public void setParse8(boolean value) {
+        boolean Origin = (getState() & P8) == P8;
+        if (Origin == value) { return; }
+        reflect(getOrient());
+        if (value) { setState(getState() | P8); }
+        else { setState(getState() & ~P8); }
+    }
+    public int getCase() {
+        return getCase(Data);
+    }
+    public void setCase(int value) {
+        Data = setCase(Data, value);
+    }
+    public static int getCase(int data) {
+        return ((data & First3) << 8) | ((data >>> 2) & 0x3000) | ((data >>> 14) & 0xC00)
+            | ((data << 2) & 0x300) | ((data << 4) & 0x30) | (data & 0xC) | ((data >>> 4) & 0x3);
+    }
+    public static int setCase(int data, int value) {
+        return (data & ~Chesses) | ((value >>> 8) & First3) | ((value << 2) & 0xC000) | ((value << 14) & 0x3000000)
+            | ((value >>> 2) & 0xC0) | ((value >>> 4) & 0x3) | (value & 0xC) | ((value << 4) & 0x30);
+    }
+    public static int locateChess(int match, Chess chess) {
+        int Rst = 0;
+        for (int i = 1; i <= 9; ++i) {
+            if (((match >>> CaseOffset[i - 1]) & Box) == chess.toInt()) { Rst |= 1 << (i - 1); }
+        }
+        return Rst;
+    }
+    public static int sanitize(int match) {
+        int Rst = match;
+        for (int i = 1; i <= 9; ++i) {
+            if (((match >>> CaseOffset[i - 1]) & Box) == Chess.Preferred.toInt()) { Rst &= ~(Box << CaseOffset[i - 1]); }
+        }
+        return Rst;
+    }
+    public int getField() {
+        return getField(getCase());
+    }
+    public static int getField(int match) {
+        return ((match & 0x3F0000) >>> 4) | ((match & 0x3F00) >>> 2) | (match & 0x3F);
+    }
+    public Board getSanitizer() {
+        Board Rst = clone();
+        for (int i = 1; i <= 9; ++i) {
+            if (Rst.get(i) == Chess.Preferred) { Rst.set(i, Chess.None); }
+        }
+        return Rst;
+    }
+    public Board(Mode mode) {
+        Data = 0;
+        if ((mode.toInt() & Side) == 0b0) { setTurn(Turn.User); }
+        else { setTurn(Turn.Response); }
+        setMode(mode);
+    }
+    public Board(int match) {
+        Data = 0;
+        setCase(match);
+    }
+    public static ArrayList<Integer> locateCells(int cells) {
+        ArrayList<Integer> Rst = new ArrayList<Integer>(9);
+        for (int i = 1; i <= 9; ++i) {
+            if ((cells & (1 << (i - 1))) != 0) { Rst.add(i); }
+        }
+        return Rst;
+    }
+    public ArrayList<Integer> locateChess(Chess chess) {
+        ArrayList<Integer> Rst = new ArrayList<Integer>(9);
+        for (int i = 1; i <= 9; ++i) {
+            if (get(i) == chess) { Rst.add(i); }
+        }
+        return Rst;
+    }
+    public Board[] parseState(int state)
+    {
+        Board[] Rst = new Board[Symmetry.size(state)];
+        for (int i = 0; i < Rst.length; ++i) {
+            Rst[i] = new Board(Mode.Attacker);
+            Rst[i].Data = Symmetry.parse(Data, getState() ^ Symmetry.getState(state, i));
+        }
+        return Rst;
+    }
+    @Override
+    public String toString() {
+        StringBuilder Rst = new StringBuilder(100);
+        Rst.append("Board < Mode.");
+        Rst.append(getMode().toString());
+        Rst.append(", Turn.");
+        Rst.append(getTurn().toString());
+        Rst.append(", Result.");
+        Rst.append(getResult().toString());
+        Rst.append(" > { 0x");
+        Rst.append(Integer.toHexString(getRound()).toUpperCase());
+        Rst.append(" } [ ");
+        for (int i = 1; i <= 9; ++i) {
+            if (get(i) == Chess.None) { Rst.append("_"); }
+            else if (get(i) == Chess.X) { Rst.append("X"); }
+            else if (get(i) == Chess.O) { Rst.append("O"); }
+            else if (get(i) == Chess.Preferred) { Rst.append("+"); }
+            if (i == 3 || i == 6) { Rst.append(", "); }
+        }
+        Rst.append(" ] ( 0b");
+        Rst.append(String.format("%4s", Integer.toBinaryString(getState())).replace(" ", "0"));
+        Rst.append(", ");
+        Rst.append(getParse8() ? "↓" : "↑");
+        Rst.append(Integer.toString(getMoves() * 45));
+        Rst.append("°, Orientation.");
+        Rst.append(getOrient().toString());
+        Rst.append(" )");
+        return Rst.toString();
+    }
+    @Override
+    public Board clone() {
+        Board Rst = new Board(Mode.Attacker);
+        Rst.Data = Data;
+        return Rst;
+    }
+    public void rotate(int moves) {
+        Data = Boards.rotate(Data, moves);
+    }
+    public void reflect(Orientation Orient) {
+        Data = Boards.reflect(Data, Orient);
+    }
+    public void clearParse() {
+        rotate(-getMoves());
+        if (getParse8()) { reflect(Orientation.Horizontal); }
+        setState(0);
+    }
+    public void reset() {
+        Data = 0;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+public final class Boards {
+    private static final int Circle = 0xFFFF;
+    private static final int Center = 0xFF00;
+    public static Chess get(int data, int i) {
+        if (i < 1 || i > 9) { throw new IndexOutOfBoundsException(); }
+        return Chess.from(Board.getBits(data, i));
+    }
+    public static int with(int data, int i, Chess value) {
+        if (i < 1 || i > 9) { throw new IndexOutOfBoundsException(); }
+        return Board.setBits(data, i, value.toInt());
+    }
+    public static Mode getMode(int data) {
+        return Mode.from(Board.getBits(data, Board.IMode));
+    }
+    public static int withMode(int data, Mode value) {
+        return Board.setBits(data, Board.IMode, value.toInt());
+    }
+    public static Turn getTurn(int data) {
+        return Turn.from(Board.getBits(data, Board.ITurn));
+    }
+    public static int withTurn(int data, Turn value) {
+        return Board.setBits(data, Board.ITurn, value.toInt());
+    }
+    public static Result getResult(int data) {
+        return Result.from(Board.getBits(data, Board.IResult));
+    }
+    public static int withResult(int data, Result value) {
+        return Board.setBits(data, Board.IResult, value.toInt());
+    }
+    public static int getRound(int data) {
+        return Board.getBits(data, Board.IRound);
+    }
+    public static int withRound(int data, int value) {
+        return Board.setBits(data, Board.IRound, value);
+    }
+    public static int getState(int data) {
+        return Board.getBits(data, Board.IState);
+    }
+    public static int rotate(int data, int moves) {
+        moves %= 8;
+        if (moves < 0) { moves += 8; }
+        int Nears = (data & Circle) << (moves * 2);
+        return (data & ~Circle) | ((Nears | (Nears >>> 16)) & Circle);
+    }
+    public static int reflect(int data, Orientation orient) {
+        if (orient == Orientation.Horizontal) {
+            int Lines = Board.getCase(data);
+            return Board.setCase(data, (Lines & Center) | (Lines >>> 16) | (Lines << 16));
+        }
+        int Moves = orient.toInt();
+        return rotate(reflect(rotate(data, -Moves), Orientation.Horizontal), Moves);
+    }
+    public static int parse(int data, int state) {
+        return Symmetry.parse(data, state);
+    }
+    public static int clearParse(int data) {
+        return Symmetry.clear(data);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.Arrays;
+public final class Canonical {
+    private static final int Chesses = 0x300FFFF;
+    private static final int[] Symmetries = new int[] { 0b0000, 0b0010, 0b0100, 0b0110, 0b1000, 0b1010, 0b1100, 0b1110 };
+    private static final byte[] Parses;
+    private static final short[] Ranks;
+    private static final int[] Datas;
+    static {
+        Parses = new byte[1 << 18];
+        Ranks = new short[1 << 18];
+        boolean[] Reached = new boolean[1 << 18];
+        boolean[] Others = new boolean[1 << 18];
+        reach(Reached, 0, Chess.O.toInt(), 0);
+        reach(Others, 0, Chess.X.toInt(), 0);
+        for (int f = 0; f < Reached.length; ++f) {
+            Reached[f] |= Others[f];
+        }
+        Board Bd = new Board(0);
+        for (int n = 0; n < 19683; ++n) {
+            for (int i = 1, k = n; i <= 9; ++i, k /= 3) {
+                Bd.set(i, Chess.from(k % 3));
+            }
+            int Data = Bd.getData();
+            int Min = Data & Chesses;
+            for (int s : Symmetries) {
+                int Key = Symmetry.parse(Data, s) & Chesses;
+                if (Key < Min) {
+                    Min = Key;
+                    Parses[Bd.getField()] = (byte)s;
+                }
+            }
+        }
+        Arrays.fill(Ranks, (short)-1);
+        int[] Rst = new int[1 << 18];
+        int Sz = 0;
+        for (int f = 0; f < Reached.length; ++f) {
+            if (!Reached[f]) { continue; }
+            int Data = toCanonical(getData(f)) & ~Symmetry.State;
+            int Field = Board.getField(Board.getCase(Data));
+            if (Field == f) {
+                Rst[Sz] = Data;
+                Ranks[f] = (short)Sz++;
+            }
+        }
+        for (int f = 0; f < Reached.length; ++f) {
+            if (Reached[f]) { Ranks[f] = Ranks[Board.getField(Board.getCase(toCanonical(getData(f))))]; }
+        }
+        Datas = Arrays.copyOf(Rst, Sz);
+    }
+    private static void reach(boolean[] reached, int data, int mover, int i) {
+        int Field = Board.getField(Board.getCase(data));
+        if (reached[Field]) { return; }
+        reached[Field] = true;
+        if (i != 0 && Rules.checkResult(data, i) != Result.Empty) { return; }
+        for (int j = 1; j <= 9; ++j) {
+            if (Board.getBits(data, j) != Chess.None.toInt()) { continue; }
+            reach(reached, Board.setBits(data, j, mover), mover ^ Chess.Preferred.toInt(), j);
+        }
+    }
+    private static int getData(int field) {
+        return Board.setCase(0, ((field & 0x3F000) << 4) | ((field & 0xFC0) << 2) | (field & 0x3F));
+    }
+    private static int getIndex(int data) {
+        return Board.getField(Board.getCase(Symmetry.clear(data)));
+    }
+    public static int getParse(int data) {
+        return Parses[getIndex(data)];
+    }
+    public static int toCanonical(int data) {
+        return Symmetry.parse(data, getParse(data));
+    }
+    public static int size() {
+        return Datas.length;
+    }
+    public static int rank(int data) {
+        return Ranks[getIndex(data)];
+    }
+    public static int unrank(int rank) {
+        if (rank < 0 || rank >= Datas.length) { throw new IndexOutOfBoundsException(); }
+        return Datas[rank];
+    }
+}
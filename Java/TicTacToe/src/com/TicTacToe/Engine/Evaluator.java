@@ -0,0 +1,98 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+public class Evaluator {
+    private static final int Chunk = 4096;
+    private final Responder Rs;
+    public Evaluator() {
+        this(new RuleResponder());
+    }
+    public Evaluator(Responder responder) {
+        Rs = responder;
+    }
+    private static void check(int[] datas, int[] responses, int[] results) {
+        if (responses.length < datas.length || results.length < datas.length) { throw new IllegalArgumentException(); }
+    }
+    public void evaluate(int[] datas, int from, int to, int[] responses, int[] results) {
+        for (int n = from; n < to; ++n) {
+            int Data = datas[n];
+            int Match = Board.getCase(Data);
+            Result Over = Rules.checkResult(Match);
+            if (Over == Result.Empty && Board.locateChess(Match, Chess.None) == 0) { Over = Result.Tied; }
+            results[n] = Over.toInt();
+            responses[n] = Over == Result.Empty ? Rs.checkResponse(Data) : 0;
+        }
+    }
+    public void evaluate(int[] datas, int[] responses, int[] results) {
+        check(datas, responses, results);
+        evaluate(datas, 0, datas.length, responses, results);
+    }
+    public void evaluateParallel(int[] datas, int[] responses, int[] results) {
+        check(datas, responses, results);
+        ForkJoinPool.commonPool().invoke(new Chunks(datas, 0, datas.length, responses, results));
+    }
+    public int evaluateParallel(IntStream datas, int[] responses, int[] results) {
+        int[] Datas = datas.toArray();
+        evaluateParallel(Datas, responses, results);
+        return Datas.length;
+    }
+    private class Chunks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] Datas;
+        private final int From;
+        private final int To;
+        private final int[] Responses;
+        private final int[] Results;
+        public Chunks(int[] datas, int from, int to, int[] responses, int[] results) {
+            Datas = datas;
+            From = from;
+            To = to;
+            Responses = responses;
+            Results = results;
+        }
+        @Override
+        protected void compute() {
+            if (To - From <= Chunk) {
+                evaluate(Datas, From, To, Responses, Results);
+                return;
+            }
+            int Mid = (From + To) >>> 1;
+            invokeAll(new Chunks(Datas, From, Mid, Responses, Results), new Chunks(Datas, Mid, To, Responses, Results));
+        }
+    }
+}
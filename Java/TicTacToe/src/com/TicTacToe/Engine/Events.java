@@ -0,0 +1,95 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+final class Events {
+    private static final String Jfr = "jdk.jfr.";
+    private static final Object Factory;
+    private static final Method NewEvent;
+    private static final Method Set;
+    private static final Method ShouldCommit;
+    private static final Method Commit;
+    static {
+        Object Fy = null;
+        Method Ne = null;
+        Method St = null;
+        Method Sc = null;
+        Method Cm = null;
+        try {
+            Class<?> EventFactory = Class.forName(Jfr + "EventFactory");
+            Class<?> Event = Class.forName(Jfr + "Event");
+            List<Object> Annotations = Arrays.asList(annotate("Name", "com.TicTacToe.Call"), annotate("Label", "TicTacToe Call"),
+                annotate("Category", new String[] { "TicTacToe" }), annotate("StackTrace", false));
+            List<Object> Fields = Arrays.asList(describe(String.class, "Method", annotate("Label", "Method")),
+                describe(int.class, "Argument", annotate("Label", "Argument")), describe(int.class, "Data", annotate("Label", "Board")),
+                describe(long.class, "Nanos", annotate("Label", "Latency"), annotate("Timespan", "NANOSECONDS")));
+            Fy = EventFactory.getMethod("create", List.class, List.class).invoke(null, Annotations, Fields);
+            Ne = EventFactory.getMethod("newEvent");
+            St = Event.getMethod("set", int.class, Object.class);
+            Sc = Event.getMethod("shouldCommit");
+            Cm = Event.getMethod("commit");
+        } catch (ReflectiveOperationException | LinkageError e) {
+            Fy = null;
+        }
+        Factory = Fy;
+        NewEvent = Ne;
+        Set = St;
+        ShouldCommit = Sc;
+        Commit = Cm;
+    }
+    private static Object annotate(String type, Object value) throws ReflectiveOperationException {
+        return Class.forName(Jfr + "AnnotationElement").getConstructor(Class.class, Object.class).newInstance(Class.forName(Jfr + type), value);
+    }
+    private static Object describe(Class<?> type, String name, Object... annotations) throws ReflectiveOperationException {
+        return Class.forName(Jfr + "ValueDescriptor").getConstructor(Class.class, String.class, List.class).newInstance(type, name,
+            Arrays.asList(annotations));
+    }
+    static void commit(String method, int argument, int data, long nanos) {
+        if (Factory == null) { return; }
+        try {
+            Object Ev = NewEvent.invoke(Factory);
+            if (!(Boolean)ShouldCommit.invoke(Ev)) { return; }
+            Set.invoke(Ev, 0, method);
+            Set.invoke(Ev, 1, argument);
+            Set.invoke(Ev, 2, data);
+            Set.invoke(Ev, 3, nanos);
+            Commit.invoke(Ev);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+public class Game {
+    private static final int[] Scene = new int[] { 1, 2, 3, 6, 9, 8, 7, 4, 5 };
+    private final Responder Rs;
+    private final Policy Po;
+    private final Journal Jn;
+    private Mode LstMo;
+    private Board Bo;
+    private long Rc;
+    public Mode getLastMode() {
+        return LstMo;
+    }
+    public int getData() {
+        return Bo.getData();
+    }
+    public Chess get(int i) {
+        return Bo.get(i);
+    }
+    public boolean onDefenderSide() {
+        return Bo.onDefenderSide();
+    }
+    public boolean inDebugForm() {
+        return Bo.inDebugForm();
+    }
+    public int getRound() {
+        return Bo.getRound();
+    }
+    public Mode getMo() {
+        return Bo.getMode();
+    }
+    private void setMo(Mode value) {
+        if (Bo.getMode() == value) { return; }
+        clear(value);
+    }
+    public Turn getTu() {
+        return Bo.getTurn();
+    }
+    private void setTu(Turn value) {
+        if (value == Turn.Unspecified) {
+            clear(Bo.getMode());
+        } else if (value == Turn.Terminated || Bo.getTurn() == Turn.Terminated) {
+            Bo.setTurn(Turn.Terminated);
+            Bo.setRound(9);
+        } else if (Bo.getTurn() != value && Bo.getRound() < 9) {
+            Bo.setTurn(value);
+            Bo.setRound(Bo.getRound() + 1);
+        }
+    }
+    public long getRecord() {
+        return Records.setResult(Rc, getRe());
+    }
+    private void clear(Mode mode) {
+        Bo = new Board(mode);
+        Rc = Records.create(mode);
+        Jn.clear();
+    }
+    public Result getRe() {
+        return Bo.getResult();
+    }
+    private void setRe(Result value) {
+        if (Bo.getResult() == value) { return; }
+        if (value == Result.Empty) {
+            clear(Bo.getMode());
+        } else {
+            Bo.setTurn(Turn.Terminated);
+            Bo.setRound(9);
+        }
+        Bo.setResult(value);
+    }
+    public Game() {
+        this(new RuleResponder());
+    }
+    public Game(Responder responder) {
+        this(responder, Policies.threadLocal());
+    }
+    public Game(Responder responder, Policy policy) {
+        Rs = responder;
+        Po = policy;
+        Jn = new Journal();
+        LstMo = Mode.StartupMode;
+        clear(Mode.Attacker);
+    }
+    private void chooseChess(int cells) {
+        if (cells == 0) { cells = Board.locateChess(Bo.getCase(), Chess.None); }
+        putChess(Po.choose(cells));
+    }
+    private void checkResponse() {
+        long Start = Metrics.Enabled ? System.nanoTime() : 0;
+        int Cells = Rs.checkResponse(Bo.getData());
+        if (Metrics.Enabled) { Metrics.record(Metrics.CheckResponse, Start, Cells, Bo.getData()); }
+        chooseChess(Cells);
+    }
+    private Result checkLines(int i) {
+        if (!Metrics.Enabled) { return Rules.checkResult(Bo.getData(), i); }
+        long Start = System.nanoTime();
+        Result Rst = Rules.checkResult(Bo.getData(), i);
+        Metrics.record(Metrics.CheckResult, Start, i, Bo.getData());
+        return Rst;
+    }
+    private void checkResult(int i) {
+        if (getRe() != Result.Empty) { return; }
+        Result Rst = checkLines(i);
+        if (Rst != Result.Empty) { setRe(Rst); }
+        else if (Bo.getRound() == 9) { setRe(Result.Tied); }
+    }
+    public void newGame(Mode mode) {
+        if (mode == Mode.StartupMode || getMo() == mode) { setTu(Turn.Unspecified); }
+        else if (mode == Mode.SwitchSide) { setMo(Bo.getConjugateSide()); }
+        else if (mode == Mode.SwitchForm) { setMo(Bo.getConjugateForm()); }
+        else if (mode == Mode.BonusScene) {
+            if (LstMo == Mode.StartupMode) { LstMo = getMo(); }
+            if (getMo() == Mode.DebugAttacker) { setTu(Turn.Unspecified); }
+            else { setMo(Mode.DebugAttacker); }
+        } else if (mode == Mode.ClumsyScene) {
+            if (LstMo == Mode.StartupMode) { LstMo = getMo(); }
+            if (getMo() == Mode.DebugDefender) { setTu(Turn.Unspecified); }
+            else { setMo(Mode.DebugDefender); }
+        } else { setMo(mode); }
+        if (LstMo != Mode.StartupMode) {
+            for (int i : Scene) { putChess(i); }
+        } else if (Bo.onDefenderSide() && !Bo.inDebugForm()) { checkResponse(); }
+    }
+    public void resumeGame() {
+        Mode Mo = LstMo;
+        LstMo = Mode.StartupMode;
+        newGame(Mo);
+    }
+    public boolean putChess(int i) {
+        if (!Metrics.Enabled) { return placeChess(i); }
+        long Start = System.nanoTime();
+        boolean Rst = placeChess(i);
+        Metrics.record(Metrics.PutChess, Start, i, Bo.getData());
+        return Rst;
+    }
+    private boolean placeChess(int i) {
+        if (Bo.get(i) == Chess.None && getRe() == Result.Empty) {
+            if (getTu() == Turn.User) {
+                Jn.record(Bo.getData(), i);
+                Bo.set(i, Chess.O);
+                Rc = Records.append(Rc, i);
+                setTu(Turn.Response);
+                checkResult(i);
+                if (!Bo.inDebugForm() && getRe() == Result.Empty)
+                {
+                    checkResponse();
+                }
+                return true;
+            } else if (getTu() == Turn.Response) {
+                Jn.record(Bo.getData(), i);
+                Bo.set(i, Chess.X);
+                Rc = Records.append(Rc, i);
+                setTu(Turn.User);
+                checkResult(i);
+                return true;
+            }
+        }
+        return false;
+    }
+    public boolean canUndo() {
+        if (Bo.inDebugForm()) { return Jn.canUndo(); }
+        for (int n = Jn.size() - 1; n >= 0; --n) {
+            if (Jn.getTurn(n) == Turn.User) { return true; }
+        }
+        return false;
+    }
+    public boolean canRedo() {
+        return Jn.canRedo();
+    }
+    public boolean undo() {
+        if (!canUndo()) { return false; }
+        do {
+            Bo.setData(Jn.unmake(Bo.getData()));
+            Rc = Records.remove(Rc);
+        } while (!Bo.inDebugForm() && getTu() != Turn.User);
+        return true;
+    }
+    public boolean redo() {
+        if (!canRedo()) { return false; }
+        do {
+            Bo.setData(Jn.redo(Bo.getData()));
+            Rc = Records.append(Rc, Jn.get(Jn.size() - 1));
+        } while (!Bo.inDebugForm() && Jn.canRedo() && Jn.getTurn(Jn.size()) == Turn.Response);
+        return true;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.Arrays;
+public class Grid {
+    private static final int[][] Directions = new int[][] { { 0, 1 }, { 1, 0 }, { 1, 1 }, { 1, -1 } };
+    private final int Rows;
+    private final int Cols;
+    private final int Goal;
+    private final int Words;
+    private final int[] Weights;
+    private final int[][] Through;
+    private final long[][] Nears;
+    private final long[][] Chesses;
+    private final long[] Around;
+    private final int[][] Counts;
+    private final int[] Moves;
+    private int Round;
+    private int Score;
+    private int Winner;
+    public Grid(int rows, int cols, int goal) {
+        if (rows < 1 || cols < 1 || goal < 1 || goal > Math.max(rows, cols) || goal > 10) { throw new IllegalArgumentException(); }
+        Rows = rows;
+        Cols = cols;
+        Goal = goal;
+        Words = (rows * cols + 63) >>> 6;
+        Weights = new int[goal + 1];
+        for (int c = 1; c <= goal; ++c) {
+            Weights[c] = 1 << (2 * c);
+        }
+        int Sz = 0;
+        int[][] Windows = new int[4 * rows * cols][];
+        for (int[] D : Directions) {
+            for (int r = 0; r < rows; ++r) {
+                for (int c = 0; c < cols; ++c) {
+                    int Lr = r + D[0] * (goal - 1);
+                    int Lc = c + D[1] * (goal - 1);
+                    if (Lr < 0 || Lr >= rows || Lc < 0 || Lc >= cols) { continue; }
+                    Windows[Sz] = new int[goal];
+                    for (int i = 0; i < goal; ++i) {
+                        Windows[Sz][i] = (r + D[0] * i) * cols + c + D[1] * i;
+                    }
+                    ++Sz;
+                }
+            }
+        }
+        int[] Cnt = new int[rows * cols];
+        for (int w = 0; w < Sz; ++w) {
+            for (int Cell : Windows[w]) { ++Cnt[Cell]; }
+        }
+        Through = new int[rows * cols][];
+        for (int Cell = 0; Cell < Through.length; ++Cell) {
+            Through[Cell] = new int[Cnt[Cell]];
+            Cnt[Cell] = 0;
+        }
+        for (int w = 0; w < Sz; ++w) {
+            for (int Cell : Windows[w]) { Through[Cell][Cnt[Cell]++] = w; }
+        }
+        Nears = new long[rows * cols][Words];
+        for (int r = 0; r < rows; ++r) {
+            for (int c = 0; c < cols; ++c) {
+                for (int Nr = Math.max(r - 1, 0); Nr <= Math.min(r + 1, rows - 1); ++Nr) {
+                    for (int Nc = Math.max(c - 1, 0); Nc <= Math.min(c + 1, cols - 1); ++Nc) {
+                        int Cell = Nr * cols + Nc;
+                        Nears[r * cols + c][Cell >>> 6] |= 1L << Cell;
+                    }
+                }
+            }
+        }
+        Chesses = new long[3][Words];
+        Around = new long[Words];
+        Counts = new int[3][Sz];
+        Moves = new int[rows * cols];
+    }
+    public int getRows() {
+        return Rows;
+    }
+    public int getCols() {
+        return Cols;
+    }
+    public int getGoal() {
+        return Goal;
+    }
+    public int size() {
+        return Rows * Cols;
+    }
+    public int getRound() {
+        return Round;
+    }
+    public int getMove(int n) {
+        if (n < 0 || n >= Round) { throw new IndexOutOfBoundsException(); }
+        return Moves[n];
+    }
+    public Chess get(int cell) {
+        if (cell < 0 || cell >= size()) { throw new IndexOutOfBoundsException(); }
+        if ((Chesses[Chess.X.toInt()][cell >>> 6] & (1L << cell)) != 0) { return Chess.X; }
+        if ((Chesses[Chess.O.toInt()][cell >>> 6] & (1L << cell)) != 0) { return Chess.O; }
+        return Chess.None;
+    }
+    public Chess getMover() {
+        return (Round & 1) == 0 ? Chess.O : Chess.X;
+    }
+    public Result getResult() {
+        if (Winner == Chess.O.toInt()) { return Result.Won; }
+        if (Winner == Chess.X.toInt()) { return Result.Lost; }
+        return Round == size() ? Result.Tied : Result.Empty;
+    }
+    boolean isOver() {
+        return Winner != 0 || Round == size();
+    }
+    int getScore() {
+        return (Round & 1) == 0 ? -Score : Score;
+    }
+    private int getWeight(int w) {
+        int Xs = Counts[Chess.X.toInt()][w];
+        int Os = Counts[Chess.O.toInt()][w];
+        if (Os == 0) { return Weights[Xs]; }
+        if (Xs == 0) { return -Weights[Os]; }
+        return 0;
+    }
+    int getGain(int cell) {
+        int Rst = 0;
+        for (int w : Through[cell]) {
+            int Xs = Counts[Chess.X.toInt()][w];
+            int Os = Counts[Chess.O.toInt()][w];
+            if (Os == 0) { Rst += Weights[Xs + 1]; }
+            if (Xs == 0) { Rst += Weights[Os + 1]; }
+        }
+        return Rst;
+    }
+    public boolean put(int cell) {
+        if (get(cell) != Chess.None || Winner != 0) { return false; }
+        int Side = getMover().toInt();
+        Chesses[Side][cell >>> 6] |= 1L << cell;
+        for (int w : Through[cell]) {
+            Score -= getWeight(w);
+            if (++Counts[Side][w] == Goal) { Winner = Side; }
+            Score += getWeight(w);
+        }
+        Moves[Round++] = cell;
+        return true;
+    }
+    public void undo() {
+        if (Round == 0) { return; }
+        int Cell = Moves[--Round];
+        int Side = getMover().toInt();
+        Chesses[Side][Cell >>> 6] &= ~(1L << Cell);
+        for (int w : Through[Cell]) {
+            Score -= getWeight(w);
+            --Counts[Side][w];
+            Score += getWeight(w);
+        }
+        Winner = 0;
+    }
+    int getCandidates(int[] cells) {
+        if (Round == 0) {
+            cells[0] = (Rows / 2) * Cols + Cols / 2;
+            return 1;
+        }
+        Arrays.fill(Around, 0);
+        for (int n = 0; n < Round; ++n) {
+            long[] Near = Nears[Moves[n]];
+            for (int i = 0; i < Words; ++i) {
+                Around[i] |= Near[i];
+            }
+        }
+        int Rst = 0;
+        for (int i = 0; i < Words; ++i) {
+            long Free = Around[i] & ~Chesses[Chess.X.toInt()][i] & ~Chesses[Chess.O.toInt()][i];
+            for (; Free != 0; Free &= Free - 1) {
+                cells[Rst++] = (i << 6) + Long.numberOfTrailingZeros(Free);
+            }
+        }
+        return Rst;
+    }
+}
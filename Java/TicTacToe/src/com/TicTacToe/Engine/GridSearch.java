@@ -0,0 +1,129 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+public class GridSearch {
+    private static final int Win = 1 << 30;
+    private final Grid Gd;
+    private final int[][] Cells;
+    private final int[][] Gains;
+    private long Deadline;
+    private boolean Stopped;
+    private long Nodes;
+    private long Nanos;
+    private int Depth;
+    private int Value;
+    private int Best;
+    public GridSearch(Grid grid) {
+        Gd = grid;
+        Cells = new int[grid.size() + 1][];
+        Gains = new int[grid.size() + 1][];
+    }
+    public long getNodes() {
+        return Nodes;
+    }
+    public long getNanos() {
+        return Nanos;
+    }
+    public double getNodesPerSecond() {
+        return Nanos == 0 ? 0 : Nodes * 1e9 / Nanos;
+    }
+    public int getDepth() {
+        return Depth;
+    }
+    public int getValue() {
+        return Value;
+    }
+    public int search(long millis) {
+        long Start = System.nanoTime();
+        Deadline = Start + millis * 1000000;
+        Stopped = false;
+        Nodes = 0;
+        Depth = 0;
+        Value = 0;
+        Best = -1;
+        int Left = Gd.size() - Gd.getRound();
+        for (int d = 1; d <= Left; ++d) {
+            int Rst = alphaBeta(d, 0, -Win, Win);
+            if (Stopped) { break; }
+            Depth = d;
+            Value = Rst;
+            if (Math.abs(Rst) >= Win - Gd.size()) { break; }
+        }
+        Nanos = System.nanoTime() - Start;
+        return Best;
+    }
+    private int order(int ply) {
+        if (Cells[ply] == null) {
+            Cells[ply] = new int[Gd.size()];
+            Gains[ply] = new int[Gd.size()];
+        }
+        int[] Cs = Cells[ply];
+        int[] Gs = Gains[ply];
+        int Sz = Gd.getCandidates(Cs);
+        for (int i = 0; i < Sz; ++i) {
+            int C = Cs[i];
+            int G = C == Best && ply == 0 ? Integer.MAX_VALUE : Gd.getGain(C);
+            int j = i;
+            for (; j > 0 && Gs[j - 1] < G; --j) {
+                Cs[j] = Cs[j - 1];
+                Gs[j] = Gs[j - 1];
+            }
+            Cs[j] = C;
+            Gs[j] = G;
+        }
+        return Sz;
+    }
+    private int alphaBeta(int depth, int ply, int alpha, int beta) {
+        if ((++Nodes & 0x3FF) == 0 && System.nanoTime() > Deadline && Best != -1) { Stopped = true; }
+        if (Stopped) { return 0; }
+        if (Gd.getResult() == Result.Won || Gd.getResult() == Result.Lost) { return ply - Win; }
+        if (Gd.isOver()) { return 0; }
+        if (depth == 0) { return Gd.getScore(); }
+        int Sz = order(ply);
+        for (int i = 0; i < Sz; ++i) {
+            int C = Cells[ply][i];
+            Gd.put(C);
+            int Rst = -alphaBeta(depth - 1, ply + 1, -beta, -alpha);
+            Gd.undo();
+            if (Stopped) { return 0; }
+            if (Rst > alpha || (ply == 0 && i == 0)) {
+                alpha = Math.max(alpha, Rst);
+                if (ply == 0) { Best = C; }
+            }
+            if (alpha >= beta) { break; }
+        }
+        return alpha;
+    }
+}
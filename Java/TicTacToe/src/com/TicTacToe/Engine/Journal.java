@@ -0,0 +1,106 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+public final class Journal {
+    private static final int Cell = 0xF;
+    private static final int ITurn = 4;
+    private static final int IRound = 6;
+    private static final int IResult = 10;
+    private final int[] Entries;
+    private int Size;
+    private int Top;
+    public Journal() {
+        this(9);
+    }
+    public Journal(int capacity) {
+        Entries = new int[capacity];
+    }
+    public int size() {
+        return Top;
+    }
+    public boolean canUndo() {
+        return Top > 0;
+    }
+    public boolean canRedo() {
+        return Top < Size;
+    }
+    public void clear() {
+        Top = 0;
+        Size = 0;
+    }
+    public int get(int n) {
+        if (n < 0 || n >= Size) { throw new IndexOutOfBoundsException(); }
+        return Entries[n] & Cell;
+    }
+    public Turn getTurn(int n) {
+        if (n < 0 || n >= Size) { throw new IndexOutOfBoundsException(); }
+        return Turn.from((Entries[n] >>> ITurn) & 0b11);
+    }
+    public static int play(int data, int i) {
+        boolean User = Board.getBits(data, Board.ITurn) == Turn.User.toInt();
+        int Round = Board.getBits(data, Board.IRound) + 1;
+        int Rst = Board.setBits(data, i, User ? Chess.O.toInt() : Chess.X.toInt());
+        Rst = Board.setBits(Rst, Board.ITurn, User ? Turn.Response.toInt() : Turn.User.toInt());
+        Rst = Board.setBits(Rst, Board.IRound, Round);
+        Result Over = Rules.checkResult(Rst, i);
+        if (Over == Result.Empty && Round == 9) { Over = Result.Tied; }
+        if (Over == Result.Empty) { return Rst; }
+        Rst = Board.setBits(Rst, Board.ITurn, Turn.Terminated.toInt());
+        Rst = Board.setBits(Rst, Board.IRound, 9);
+        return Board.setBits(Rst, Board.IResult, Over.toInt());
+    }
+    void record(int data, int i) {
+        if (Top == Entries.length) { throw new IndexOutOfBoundsException(); }
+        Entries[Top++] = i | (Board.getBits(data, Board.ITurn) << ITurn) | (Board.getBits(data, Board.IRound) << IRound)
+            | (Board.getBits(data, Board.IResult) << IResult);
+        Size = Top;
+    }
+    public int make(int data, int i) {
+        record(data, i);
+        return play(data, i);
+    }
+    public int unmake(int data) {
+        if (Top == 0) { throw new IndexOutOfBoundsException(); }
+        int Entry = Entries[--Top];
+        int Rst = Board.setBits(data, Entry & Cell, Chess.None.toInt());
+        Rst = Board.setBits(Rst, Board.ITurn, (Entry >>> ITurn) & 0b11);
+        Rst = Board.setBits(Rst, Board.IRound, (Entry >>> IRound) & Cell);
+        return Board.setBits(Rst, Board.IResult, (Entry >>> IResult) & 0b11);
+    }
+    public int redo(int data) {
+        if (Top == Size) { throw new IndexOutOfBoundsException(); }
+        return play(data, Entries[Top++] & Cell);
+    }
+}
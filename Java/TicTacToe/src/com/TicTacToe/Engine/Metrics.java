@@ -0,0 +1,113 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+public final class Metrics {
+    public static final boolean Enabled = Boolean.getBoolean("TicTacToe.metrics");
+    public static final int PutChess = 0;
+    public static final int CheckResponse = 1;
+    public static final int CheckResult = 2;
+    private static final String[] Names = new String[] { "putChess", "checkResponse", "checkResult" };
+    private static final AtomicLongArray[] Latencies;
+    private static final AtomicLongArray RuleHits;
+    private static final AtomicLongArray LineHits;
+    private static final AtomicLong Fallbacks;
+    static {
+        Latencies = new AtomicLongArray[Names.length];
+        for (int t = 0; t < Latencies.length; ++t) {
+            Latencies[t] = new AtomicLongArray(65);
+        }
+        RuleHits = new AtomicLongArray(1 << 10);
+        LineHits = new AtomicLongArray(64);
+        Fallbacks = new AtomicLong();
+    }
+    public static void record(int timer, long start, int argument, int data) {
+        long Nanos = System.nanoTime() - start;
+        Latencies[timer].incrementAndGet(64 - Long.numberOfLeadingZeros(Nanos));
+        Events.commit(Names[timer], argument, data, Nanos);
+    }
+    static void countRule(int code) {
+        RuleHits.incrementAndGet(code);
+        if (Rules.isFallback(code)) { Fallbacks.incrementAndGet(); }
+    }
+    static void countLine(int l) {
+        LineHits.incrementAndGet(l);
+    }
+    public static void reset() {
+        for (AtomicLongArray L : Latencies) {
+            for (int b = 0; b < L.length(); ++b) { L.set(b, 0); }
+        }
+        for (int n = 0; n < RuleHits.length(); ++n) { RuleHits.set(n, 0); }
+        for (int n = 0; n < LineHits.length(); ++n) { LineHits.set(n, 0); }
+        Fallbacks.set(0);
+    }
+    private static long getPercentile(long[] buckets, long count, double percentile) {
+        long Rank = (long)Math.ceil(count * percentile / 100);
+        for (int b = 0; b < buckets.length; ++b) {
+            if ((Rank -= buckets[b]) <= 0) { return b == 0 ? 0 : 1L << b; }
+        }
+        return Long.MAX_VALUE;
+    }
+    public static String snapshot() {
+        StringBuilder Rst = new StringBuilder(4096);
+        Rst.append(String.format("%-16s %12s %12s %12s %12s%n", "Latency", "count", "p50 <= ns", "p99 <= ns", "max <= ns"));
+        for (int t = 0; t < Names.length; ++t) {
+            long[] Buckets = new long[Latencies[t].length()];
+            long Count = 0;
+            for (int b = 0; b < Buckets.length; ++b) {
+                Buckets[b] = Latencies[t].get(b);
+                Count += Buckets[b];
+            }
+            Rst.append(String.format("%-16s %12d %12d %12d %12d%n", Names[t], Count, getPercentile(Buckets, Count, 50),
+                getPercentile(Buckets, Count, 99), getPercentile(Buckets, Count, 100)));
+        }
+        Rst.append(String.format("%-28s %12s%n", "Matcher", Rules.getMatcherName()));
+        Rst.append(String.format("%-28s %12s%n", "Rule #Symmetry", "hits"));
+        for (int r = 0; r < Rules.getRules(); ++r) {
+            for (int i = 0; i < 16; ++i) {
+                long Hits = RuleHits.get((r << 4) | i);
+                if (Hits == 0) { continue; }
+                Rst.append(String.format("%-28s %12d%n", Rules.getRuleName(r) + " #" + i, Hits));
+            }
+        }
+        Rst.append(String.format("%-28s %12s%n", "Line", "hits"));
+        for (int l = 0; l < Rules.getLines(); ++l) {
+            Rst.append(String.format("%-28s %12d%n", Rules.getLineName(l), LineHits.get(l)));
+        }
+        Rst.append(String.format("%-28s %12d%n", "Random among empty Chesses", Fallbacks.get()));
+        return Rst.toString();
+    }
+}
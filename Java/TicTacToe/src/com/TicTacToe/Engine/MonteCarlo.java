@@ -0,0 +1,230 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+public class MonteCarlo implements Responder {
+    private static final int Capacity = 1 << 20;
+    private static final int Expanding = -1;
+    private static final int Full = -2;
+    private static final double Exploration = Math.sqrt(2);
+    private final long Millis;
+    private final int Threads;
+    private final ExecutorService Pool;
+    private final ConcurrentLinkedQueue<Tree> Idle;
+    private final LongAdder Playouts;
+    private final LongAdder Nanos;
+    public MonteCarlo(long millis, int threads) {
+        Millis = millis;
+        Threads = threads;
+        Pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread Rst = new Thread(r, "MonteCarlo");
+            Rst.setDaemon(true);
+            return Rst;
+        });
+        Idle = new ConcurrentLinkedQueue<>();
+        Playouts = new LongAdder();
+        Nanos = new LongAdder();
+    }
+    public long getPlayouts() {
+        return Playouts.sum();
+    }
+    public long getNanos() {
+        return Nanos.sum();
+    }
+    public double getPlayoutsPerSecond() {
+        long Ns = Nanos.sum();
+        return Ns == 0 ? 0 : Playouts.sum() * 1e9 / Ns;
+    }
+    public void shutdown() {
+        Pool.shutdown();
+    }
+    private static boolean isOver(int data) {
+        return Board.getBits(data, Board.IResult) != Result.Empty.toInt();
+    }
+    private static int getReward(int result, int mover) {
+        if (result == Result.Tied.toInt()) { return 1; }
+        return (result == Result.Won.toInt()) == (mover == Turn.User.toInt()) ? 2 : 0;
+    }
+    private static int playout(int data, Policy policy) {
+        while (!isOver(data)) {
+            data = Journal.play(data, policy.choose(Board.locateChess(Board.getCase(data), Chess.None)));
+        }
+        return Board.getBits(data, Board.IResult);
+    }
+    public int search(int data) {
+        long Start = System.nanoTime();
+        Tree Tr = Idle.poll();
+        if (Tr == null) { Tr = new Tree(); }
+        Tr.reset(data, Start + Millis * 1000000);
+        List<Callable<Long>> Tasks = new ArrayList<>(Threads);
+        for (int t = 0; t < Threads; ++t) {
+            Tasks.add(Tr::run);
+        }
+        try {
+            for (Future<Long> F : Pool.invokeAll(Tasks)) {
+                Playouts.add(F.get());
+            }
+        } catch (InterruptedException e) {
+            Tr.Stopped = true;
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            Nanos.add(System.nanoTime() - Start);
+        }
+        int Rst = Tr.getBest();
+        Idle.offer(Tr);
+        return Rst;
+    }
+    @Override
+    public int checkResponse(int data) {
+        if (isOver(data)) { return 0; }
+        int i = search(data);
+        return i != 0 ? 1 << (i - 1) : Board.locateChess(Board.getCase(data), Chess.None);
+    }
+    private static final class Tree {
+        private final int[] Datas;
+        private final byte[] Moves;
+        private final byte[] Counts;
+        private final AtomicIntegerArray Firsts;
+        private final AtomicIntegerArray Visits;
+        private final AtomicIntegerArray Scores;
+        private final AtomicInteger Next;
+        private volatile long Deadline;
+        private volatile boolean Stopped;
+        public Tree() {
+            Datas = new int[Capacity];
+            Moves = new byte[Capacity];
+            Counts = new byte[Capacity];
+            Firsts = new AtomicIntegerArray(Capacity);
+            Visits = new AtomicIntegerArray(Capacity);
+            Scores = new AtomicIntegerArray(Capacity);
+            Next = new AtomicInteger(1);
+        }
+        private void reset(int data, long deadline) {
+            int Used = Math.min(Next.get(), Capacity);
+            for (int n = 0; n < Used; ++n) {
+                Firsts.set(n, 0);
+                Visits.set(n, 0);
+                Scores.set(n, 0);
+            }
+            Datas[0] = data;
+            Next.set(1);
+            Deadline = deadline;
+        }
+        private int expand(int n) {
+            int Data = Datas[n];
+            int Empty = Board.locateChess(Board.getCase(Data), Chess.None);
+            int Cnt = Integer.bitCount(Empty);
+            int First = Next.getAndAdd(Cnt);
+            if (First + Cnt > Capacity) {
+                Firsts.set(n, Full);
+                return Full;
+            }
+            for (int k = First; Empty != 0; ++k, Empty &= Empty - 1) {
+                int i = Integer.numberOfTrailingZeros(Empty) + 1;
+                Datas[k] = Journal.play(Data, i);
+                Moves[k] = (byte)i;
+            }
+            Counts[n] = (byte)Cnt;
+            Firsts.set(n, First);
+            return First;
+        }
+        private int select(int n) {
+            int First = Firsts.get(n);
+            double Log = Math.log(Math.max(Visits.get(n), 1));
+            int Best = First;
+            double Top = -1;
+            for (int k = First; k < First + Counts[n]; ++k) {
+                int Vs = Visits.get(k);
+                if (Vs == 0) { return k; }
+                double Uct = Scores.get(k) / (2.0 * Vs) + Exploration * Math.sqrt(Log / Vs);
+                if (Uct > Top) {
+                    Top = Uct;
+                    Best = k;
+                }
+            }
+            return Best;
+        }
+        private long run() {
+            Policy Po = Policies.uniform(ThreadLocalRandom.current().nextLong());
+            int[] Path = new int[10];
+            long Rst = 0;
+            Thread Self = Thread.currentThread();
+            while (!Stopped && !Self.isInterrupted() && System.nanoTime() < Deadline) {
+                int n = 0;
+                int Depth = 0;
+                Visits.incrementAndGet(0);
+                while (!isOver(Datas[n])) {
+                    int First = Firsts.get(n);
+                    if (First == 0 && Visits.get(n) > 1 && Firsts.compareAndSet(n, 0, Expanding)) { First = expand(n); }
+                    if (First <= 0) { break; }
+                    n = select(n);
+                    Path[Depth++] = n;
+                    Visits.incrementAndGet(n);
+                }
+                int Over = playout(Datas[n], Po);
+                int Parent = Datas[0];
+                for (int d = 0; d < Depth; ++d) {
+                    Scores.addAndGet(Path[d], getReward(Over, Board.getBits(Parent, Board.ITurn)));
+                    Parent = Datas[Path[d]];
+                }
+                ++Rst;
+            }
+            return Rst;
+        }
+        private int getBest() {
+            int First = Firsts.get(0);
+            if (First <= 0) { return 0; }
+            int Best = First;
+            for (int k = First; k < First + Counts[0]; ++k) {
+                if (Visits.get(k) > Visits.get(Best)) { Best = k; }
+            }
+            return Moves[Best];
+        }
+    }
+}
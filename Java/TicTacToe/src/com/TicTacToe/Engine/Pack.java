@@ -0,0 +1,97 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+class Pack {
+    static final int Field = 0xF3F3F3F;
+    static final int Parse = 0xF000000;
+    static final int Match = 0x3F3F3F;
+    private final int Data;
+    private final Board Refer;
+    private final int[] Parses;
+    private final int[] Lines;
+    private final int[] Matches;
+    private final int[] Prefers;
+    public int size() {
+        return Parses.length;
+    }
+    public int getParse(int i) {
+        return Parses[i];
+    }
+    public int getCase(int i) {
+        return Lines[i];
+    }
+    public int getMatch(int i) {
+        return Matches[i];
+    }
+    public int getPreferred(int i) {
+        return Prefers[i];
+    }
+    public int getSource() {
+        return Data;
+    }
+    public Pack(int Source) {
+        Data = Source & Field;
+        Refer = new Board(Data);
+        int State = Data >>> 24;
+        Parses = new int[Symmetry.size(State)];
+        Lines = new int[Parses.length];
+        Matches = new int[Parses.length];
+        Prefers = new int[Parses.length];
+        int Base = Board.setCase(0, Data);
+        for (int i = 0; i < Parses.length; ++i) {
+            Parses[i] = Symmetry.parse(Base, Symmetry.getState(State, i));
+            Lines[i] = Board.getCase(Parses[i]);
+            Matches[i] = Board.sanitize(Lines[i]);
+            Prefers[i] = Board.locateChess(Lines[i], Chess.Preferred);
+        }
+    }
+    @Override
+    public String toString() {
+        StringBuilder Rst = new StringBuilder(100);
+        Rst.append("Pack [ ");
+        for (int i = 1; i <= 9; ++i)
+        {
+            if (Refer.get(i) == Chess.None) { Rst.append("_"); }
+            else if (Refer.get(i) == Chess.X) { Rst.append("X"); }
+            else if (Refer.get(i) == Chess.O) { Rst.append("O"); }
+            else if (Refer.get(i) == Chess.Preferred) { Rst.append("+"); }
+            if (i == 3 || i == 6) { Rst.append(", "); }
+        }
+        Rst.append(" ] ( 0b");
+        Rst.append(String.format("%4s", Integer.toBinaryString(Data >>> 24)).replace(" ", "0"));
+        Rst.append(" )");
+        return Rst.toString();
+    }
+}
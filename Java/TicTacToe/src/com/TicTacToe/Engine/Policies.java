@@ -0,0 +1,121 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.concurrent.ThreadLocalRandom;
+public final class Policies {
+    private static final long Golden = 0x9E3779B97F4A7C15L;
+    public static Policy uniform(long seed) {
+        Uniform Rst = new Uniform();
+        Rst.seed(seed);
+        return Rst;
+    }
+    public static Policy threadLocal() {
+        return new Local();
+    }
+    public static Policy first() {
+        return new First();
+    }
+    public static Policy weighted(int[] weights, long seed) {
+        Weighted Rst = new Weighted(weights);
+        Rst.seed(seed);
+        return Rst;
+    }
+    public static long getSeed(long seed, long n) {
+        return seed + n * Golden;
+    }
+    private static int pick(int cells, int n) {
+        for (int i = 0; i < n; ++i) {
+            cells &= cells - 1;
+        }
+        return Integer.numberOfTrailingZeros(cells) + 1;
+    }
+    private static class Uniform implements Policy {
+        protected long State;
+        protected int nextInt(int bound) {
+            long z = (State += Golden);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            z ^= z >>> 31;
+            return (int)(((z >>> 32) * bound) >>> 32);
+        }
+        @Override
+        public void seed(long seed) {
+            State = seed;
+        }
+        @Override
+        public int choose(int cells) {
+            if (cells == 0) { return 0; }
+            return pick(cells, nextInt(Integer.bitCount(cells)));
+        }
+    }
+    private static class Local implements Policy {
+        @Override
+        public int choose(int cells) {
+            if (cells == 0) { return 0; }
+            return pick(cells, ThreadLocalRandom.current().nextInt(Integer.bitCount(cells)));
+        }
+    }
+    private static class First implements Policy {
+        @Override
+        public int choose(int cells) {
+            if (cells == 0) { return 0; }
+            return Integer.numberOfTrailingZeros(cells) + 1;
+        }
+    }
+    private static class Weighted extends Uniform {
+        private final int[] Weights;
+        public Weighted(int[] weights) {
+            if (weights.length != 9) { throw new IllegalArgumentException(); }
+            for (int w : weights) {
+                if (w < 0) { throw new IllegalArgumentException(); }
+            }
+            Weights = weights.clone();
+        }
+        @Override
+        public int choose(int cells) {
+            if (cells == 0) { return 0; }
+            int Sum = 0;
+            for (int Rest = cells; Rest != 0; Rest &= Rest - 1) {
+                Sum += Weights[Integer.numberOfTrailingZeros(Rest)];
+            }
+            if (Sum <= 0) { return super.choose(cells); }
+            int n = nextInt(Sum);
+            for (int Rest = cells; ; Rest &= Rest - 1) {
+                int i = Integer.numberOfTrailingZeros(Rest);
+                if ((n -= Weights[i]) < 0) { return i + 1; }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+public class RecordReader implements Closeable {
+    private static final int Shift = 27;
+    private static final long Segment = 1L << Shift;
+    private final FileChannel Ch;
+    private final LongBuffer[] Segments;
+    private final long Count;
+    public RecordReader(Path path) throws IOException {
+        Ch = FileChannel.open(path, StandardOpenOption.READ);
+        ByteBuffer Head = ByteBuffer.allocate(RecordLog.Header).order(ByteOrder.LITTLE_ENDIAN);
+        Ch.read(Head, 0);
+        Count = Head.position() == RecordLog.Header ? Math.min(Head.getLong(0), (Ch.size() - RecordLog.Header) / 8) : 0;
+        Segments = new LongBuffer[(int)((Count + Segment - 1) >>> Shift)];
+        for (int s = 0; s < Segments.length; ++s) {
+            long Sz = Math.min(Segment, Count - s * Segment);
+            Segments[s] = Ch.map(FileChannel.MapMode.READ_ONLY, RecordLog.Header + s * Segment * 8, Sz * 8)
+                .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        }
+    }
+    public long size() {
+        return Count;
+    }
+    public long get(long n) {
+        if (n < 0 || n >= Count) { throw new IndexOutOfBoundsException(); }
+        return Segments[(int)(n >>> Shift)].get((int)(n & (Segment - 1)));
+    }
+    public int getSegments() {
+        return Segments.length;
+    }
+    public LongBuffer getSegment(int s) {
+        return Segments[s].duplicate();
+    }
+    @Override
+    public void close() throws IOException {
+        Ch.close();
+    }
+}
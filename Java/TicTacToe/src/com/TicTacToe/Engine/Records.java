@@ -0,0 +1,92 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+public final class Records {
+    private static final int ICount = 36;
+    private static final int IMode = 40;
+    private static final int IResult = 42;
+    private static final long Cell = 0xFL;
+    private static final long Box = 0b11L;
+    public static long create(Mode mode) {
+        return (long)mode.toInt() << IMode;
+    }
+    public static int size(long record) {
+        return (int)((record >>> ICount) & Cell);
+    }
+    public static int get(long record, int n) {
+        if (n < 0 || n >= size(record)) { throw new IndexOutOfBoundsException(); }
+        return (int)((record >>> (4 * n)) & Cell);
+    }
+    public static long append(long record, int i) {
+        int Sz = size(record);
+        if (Sz == 9) { throw new IndexOutOfBoundsException(); }
+        record |= (long)i << (4 * Sz);
+        return (record & ~(Cell << ICount)) | ((long)(Sz + 1) << ICount);
+    }
+    public static long remove(long record) {
+        int Sz = size(record);
+        if (Sz == 0) { throw new IndexOutOfBoundsException(); }
+        record &= ~(Cell << (4 * (Sz - 1)));
+        return (record & ~(Cell << ICount)) | ((long)(Sz - 1) << ICount);
+    }
+    public static Mode getMode(long record) {
+        return Mode.from((int)((record >>> IMode) & Box));
+    }
+    public static Result getResult(long record) {
+        return Result.from((int)((record >>> IResult) & Box));
+    }
+    public static long setResult(long record, Result value) {
+        return (record & ~(Box << IResult)) | ((long)value.toInt() << IResult);
+    }
+    public static Game replay(long record) {
+        Game Rst = new Game(new Replay(record), Policies.first());
+        Rst.newGame(getMode(record));
+        for (int n = Rst.getRound(); n < size(record); n = Rst.getRound()) {
+            if (!Rst.putChess(get(record, n))) { break; }
+        }
+        return Rst;
+    }
+    private static class Replay implements Responder {
+        private final long Rc;
+        public Replay(long record) {
+            Rc = record;
+        }
+        @Override
+        public int checkResponse(int data) {
+            int n = Board.getBits(data, Board.IRound);
+            return n < size(Rc) ? 1 << (get(Rc, n) - 1) : Board.locateChess(Board.getCase(data), Chess.None);
+        }
+    }
+}
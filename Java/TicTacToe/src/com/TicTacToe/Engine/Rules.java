@@ -0,0 +1,336 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.io.*;
+import java.util.Arrays;
+public final class Rules {
+    private static final int Filled = 0x200;
+    private static final int Cells = 0x1FF;
+    private static final int Fillings = 19683;
+    private static final String Resource = "/Rules.bin";
+    private static final int[] Lines;
+    private static final int[] LinesX;
+    private static final int[] LinesO;
+    private static final int[][] Through;
+    private static final short[] Loaded;
+    static {
+        int[][] Rst = null;
+        short[] Responses = null;
+        try (InputStream Is = Rules.class.getResourceAsStream(Resource)) {
+            if (Is != null) {
+                DataInputStream In = new DataInputStream(new BufferedInputStream(Is));
+                int[][] Read = new int[3][In.readInt()];
+                for (int l = 0; l < Read[0].length; ++l) {
+                    Read[0][l] = In.readInt();
+                    Read[1][l] = In.readInt();
+                    Read[2][l] = In.readInt();
+                }
+                byte[] Bytes = new byte[Fillings * 2];
+                In.readFully(Bytes);
+                int[] Offsets = new int[10];
+                for (int i = 1; i <= 9; ++i) {
+                    Offsets[i] = Integer.numberOfTrailingZeros(Board.getField(Board.getCase(Board.setBits(0, i, Chess.X.toInt()))));
+                }
+                short[] Table = new short[1 << 18];
+                int[] Digits = new int[10];
+                for (int n = 0, Field = 0; n < Fillings; ++n) {
+                    Table[Field] = (short)((Bytes[2 * n] << 8) | (Bytes[2 * n + 1] & 0xFF));
+                    for (int i = 1; i <= 9; ++i) {
+                        if (++Digits[i] < 3) {
+                            Field += 1 << Offsets[i];
+                            break;
+                        }
+                        Digits[i] = 0;
+                        Field -= 2 << Offsets[i];
+                    }
+                }
+                Rst = Read;
+                Responses = Table;
+            }
+        } catch (IOException e) {
+            Rst = null;
+            Responses = null;
+        }
+        if (Rst == null) { Rst = buildLines(); }
+        Lines = Rst[0];
+        LinesX = Rst[1];
+        LinesO = Rst[2];
+        Loaded = Responses;
+        Through = new int[10][];
+        for (int i = 1; i <= 9; ++i) {
+            int Cnt = 0;
+            int[] Passing = new int[Lines.length];
+            for (int l = 0; l < Lines.length; ++l) {
+                if (Board.getBits(Lines[l], i) != Chess.None.toInt()) { Passing[Cnt++] = l; }
+            }
+            Through[i] = Arrays.copyOf(Passing, Cnt);
+        }
+    }
+    private static class Patterns {
+        private static final Tuple[] ZeroSurvive = new Tuple[] {
+            new Tuple(0b0011_00011001_00011001_00011001),
+            new Tuple(0b0110_00100101_00100101_00100101),
+        };
+        private static final Tuple[] SingleSurvive = new Tuple[] {
+            new Tuple(0b0011_00011001_00011101_00011001),
+            new Tuple(0b0111_00011001_00011001_00011101),
+            new Tuple(0b0110_00100101_00110101_00100101),
+            new Tuple(0b1110_00100101_00100101_00110101),
+        };
+        private static final Tuple[] DoubleSurvive = new Tuple[] {
+            new Tuple(0b1110_00010111_00011010_00000100),
+            new Tuple(0b1110_00010111_00011000_00000110),
+            new Tuple(0b1110_00010111_00010010_00100100),
+            new Tuple(0b1110_00010111_00010000_00100110),
+            new Tuple(0b0110_00001011_00010110_00010100),
+            new Tuple(0b0110_00100011_00010110_00010100),
+            new Tuple(0b0110_00001011_00010100_00010110),
+            new Tuple(0b0110_00100011_00010100_00010110),
+        };
+        private static final Pack[] Cases = new Pack[] {
+            new Pack(0b0000_00110011_00001100_00110011),
+            new Pack(0b0000_00110011_00001000_00110011),
+            new Pack(0b0111_00001000_00001100_00000000),
+        };
+        private static final Pack MaskA = new Pack(0b1111_00111111_00111111_00111111);
+        private static final Pack[] Matches;
+        private static final Pack[] Masks;
+        private static final String[] Names;
+        private static final int[] Tiers;
+        private static final Matcher ResponseMatcher;
+        private static final int[] Prefers;
+        private static final int[] Nexts;
+        private static final int[] Codes;
+        private static final Matcher ResultMatcher;
+        private static final int Count;
+        static {
+            int Sz = Cases.length + 2 * SingleSurvive.length + 2 * DoubleSurvive.length;
+            Matches = new Pack[Sz];
+            Masks = new Pack[Sz];
+            Names = new String[Sz + 1];
+            Tiers = new int[] { 0, Cases.length, Cases.length + SingleSurvive.length, Cases.length + 2 * SingleSurvive.length,
+                Sz - DoubleSurvive.length, Sz };
+            int r = 0;
+            for (int t = 0; t < Cases.length; ++t, ++r) {
+                Matches[r] = Cases[t];
+                Masks[r] = MaskA;
+                Names[r] = "Cases[" + t + "]";
+            }
+            for (Tuple[] Ts : new Tuple[][] { SingleSurvive, DoubleSurvive }) {
+                String Group = Ts == SingleSurvive ? "SingleSurvive[" : "DoubleSurvive[";
+                for (int t = 0; t < Ts.length; ++t, ++r) {
+                    Matches[r] = Ts[t].Lost;
+                    Masks[r] = Ts[t].Mask;
+                    Names[r] = Group + t + "].Lost";
+                }
+                for (int t = 0; t < Ts.length; ++t, ++r) {
+                    Matches[r] = Ts[t].Won;
+                    Masks[r] = Ts[t].Mask;
+                    Names[r] = Group + t + "].Won";
+                }
+            }
+            Names[Sz] = "Fallback";
+            int Flat = 0;
+            for (Pack P : Matches) { Flat += P.size(); }
+            int[] Ms = new int[Flat];
+            int[] Cs = new int[Flat];
+            Prefers = new int[Flat];
+            Nexts = new int[Flat];
+            Codes = new int[Flat];
+            for (int n = 0, k = 0; k < Sz; ++k) {
+                int End = n + Matches[k].size();
+                for (int i = 0; i < Matches[k].size(); ++i, ++n) {
+                    Ms[n] = Masks[k].getCase(i);
+                    Cs[n] = Matches[k].getMatch(i);
+                    Prefers[n] = Matches[k].getPreferred(i);
+                    Nexts[n] = End;
+                    Codes[n] = (k << 4) | i;
+                }
+            }
+            ResponseMatcher = Matchers.create(Ms, Cs);
+            int Ls = 0;
+            for (Tuple T : ZeroSurvive) { Ls += T.Mask.size(); }
+            Count = Ls;
+            Ms = new int[2 * Ls];
+            Cs = new int[2 * Ls];
+            for (int n = 0, t = 0; t < ZeroSurvive.length; ++t) {
+                for (int i = 0; i < ZeroSurvive[t].Mask.size(); ++i, ++n) {
+                    Ms[n] = Ms[n + Ls] = ZeroSurvive[t].Mask.getCase(i);
+                    Cs[n] = ZeroSurvive[t].Lost.getCase(i);
+                    Cs[n + Ls] = ZeroSurvive[t].Won.getCase(i);
+                }
+            }
+            ResultMatcher = Matchers.create(Ms, Cs);
+        }
+    }
+    private static class Hits {
+        private static final short[] Codes;
+        static {
+            Codes = new short[1 << 18];
+            Board Bd = new Board(0);
+            for (int n = 0; n < Fillings; ++n) {
+                setBoard(Bd, n);
+                Codes[Bd.getField()] = (short)matchResponse(Bd.getCase());
+            }
+        }
+    }
+    private static class Table {
+        private static final short[] Responses = Loaded != null ? Loaded : buildResponses();
+    }
+    static void setBoard(Board bd, int n) {
+        for (int i = 1, k = n; i <= 9; ++i, k /= 3) {
+            bd.set(i, Chess.from(k % 3));
+        }
+    }
+    private static int[][] buildLines() {
+        int Sz = 0;
+        for (Tuple T : Patterns.ZeroSurvive) { Sz += T.Mask.size(); }
+        int[][] Rst = new int[3][Sz];
+        int n = 0;
+        for (Tuple T : Patterns.ZeroSurvive) {
+            for (int i = 0; i < T.Mask.size(); ++i, ++n) {
+                Rst[0][n] = Board.setCase(0, T.Mask.getCase(i));
+                Rst[1][n] = Board.setCase(0, T.Lost.getCase(i));
+                Rst[2][n] = Board.setCase(0, T.Won.getCase(i));
+            }
+        }
+        return Rst;
+    }
+    static short[] buildResponses() {
+        short[] Rst = new short[1 << 18];
+        Board Bd = new Board(0);
+        for (int n = 0; n < Fillings; ++n) {
+            setBoard(Bd, n);
+            int Xs = Bd.locateChess(Chess.X).size();
+            int Os = Bd.locateChess(Chess.O).size();
+            if (Math.abs(Os - Xs) <= 1) {
+                Rst[Bd.getField()] = (short)(scanResponse(Bd.getCase()) | Filled);
+            }
+        }
+        return Rst;
+    }
+    public static void write(OutputStream os) throws IOException {
+        DataOutputStream Out = new DataOutputStream(new BufferedOutputStream(os));
+        int[][] Rst = buildLines();
+        Out.writeInt(Rst[0].length);
+        for (int l = 0; l < Rst[0].length; ++l) {
+            Out.writeInt(Rst[0][l]);
+            Out.writeInt(Rst[1][l]);
+            Out.writeInt(Rst[2][l]);
+        }
+        short[] Responses = buildResponses();
+        Board Bd = new Board(0);
+        for (int n = 0; n < Fillings; ++n) {
+            setBoard(Bd, n);
+            Out.writeShort(Responses[Bd.getField()]);
+        }
+        Out.flush();
+    }
+    private static int matchResponse(int board) {
+        int n = Patterns.ResponseMatcher.match(board);
+        while (n >= 0 && Patterns.Prefers[n] == 0) { n = Patterns.ResponseMatcher.match(board, Patterns.Nexts[n]); }
+        return n >= 0 ? Patterns.Codes[n] : Patterns.Matches.length << 4;
+    }
+    private static int scanResponse(int board) {
+        int Code = matchResponse(board);
+        int r = Code >>> 4;
+        if (r < Patterns.Matches.length) { return Patterns.Matches[r].getPreferred(Code & 0xF); }
+        return Board.locateChess(board, Chess.None);
+    }
+    static int checkRule(int match) {
+        int Field = Board.getField(match);
+        return (Table.Responses[Field] & Filled) == 0 ? matchResponse(match) : Hits.Codes[Field];
+    }
+    static boolean isFallback(int code) {
+        return code >>> 4 == Patterns.Matches.length;
+    }
+    public static int checkResponse(int match) {
+        int Field = Board.getField(match);
+        int Rst = Table.Responses[Field];
+        if (Metrics.Enabled) { Metrics.countRule(checkRule(match)); }
+        if ((Rst & Filled) == 0) { Rst = scanResponse(match); }
+        return Rst & Cells;
+    }
+    public static Result checkResult(int match) {
+        int n = Patterns.ResultMatcher.match(match);
+        if (n < 0) { return Result.Empty; }
+        if (Metrics.Enabled) { Metrics.countLine(n % Patterns.Count); }
+        return n < Patterns.Count ? Result.Lost : Result.Won;
+    }
+    public static Result checkResult(int data, int i) {
+        for (int l : Through[i]) {
+            int Line = data & Lines[l];
+            if (Line == LinesX[l]) {
+                if (Metrics.Enabled) { Metrics.countLine(l); }
+                return Result.Lost;
+            }
+            if (Line == LinesO[l]) {
+                if (Metrics.Enabled) { Metrics.countLine(l); }
+                return Result.Won;
+            }
+        }
+        return Result.Empty;
+    }
+    static String getMatcherName() {
+        return Patterns.ResponseMatcher.getClass().getSimpleName();
+    }
+    static int getRules() {
+        return Patterns.Names.length;
+    }
+    static int[] getTiers() {
+        return Patterns.Tiers.clone();
+    }
+    static Pack getMatch(int r) {
+        return Patterns.Matches[r];
+    }
+    static Pack getMask(int r) {
+        return Patterns.Masks[r];
+    }
+    static String getRuleName(int r) {
+        return Patterns.Names[r];
+    }
+    static int getLines() {
+        return Lines.length;
+    }
+    static String getLineName(int l) {
+        StringBuilder Rst = new StringBuilder(8);
+        for (int i = 1; i <= 9; ++i) {
+            if (Board.getBits(Lines[l], i) == Chess.None.toInt()) { continue; }
+            if (Rst.length() > 0) { Rst.append('-'); }
+            Rst.append(i);
+        }
+        return Rst.toString();
+    }
+}
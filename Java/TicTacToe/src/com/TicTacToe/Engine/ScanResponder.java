@@ -0,0 +1,170 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+public class ScanResponder implements Responder {
+    private static final int Period = 4096;
+    private static final int Fillings = 19683;
+    private static final int[] Tiers = Rules.getTiers();
+    private static final boolean[][] Conflicts;
+    static {
+        int Sz = Tiers[Tiers.length - 1];
+        Conflicts = new boolean[Sz][Sz];
+        int[] Prefers = new int[Sz];
+        Board Bd = new Board(0);
+        for (int n = 0; n < Fillings; ++n) {
+            Rules.setBoard(Bd, n);
+            if (Canonical.rank(Bd.getData()) < 0) { continue; }
+            int Case = Bd.getCase();
+            for (int r = 0; r < Sz; ++r) {
+                Prefers[r] = 0;
+                Pack Match = Rules.getMatch(r);
+                Pack Mask = Rules.getMask(r);
+                for (int i = 0; i < Match.size(); ++i) {
+                    if ((Case & Mask.getCase(i)) == Match.getMatch(i)) {
+                        Prefers[r] = Match.getPreferred(i);
+                        break;
+                    }
+                }
+            }
+            int t = 0;
+            while (t + 1 < Tiers.length && !isFired(Prefers, Tiers[t], Tiers[t + 1])) { ++t; }
+            if (t + 1 == Tiers.length) { continue; }
+            for (int a = Tiers[t]; a < Tiers[t + 1]; ++a) {
+                for (int b = a + 1; b < Tiers[t + 1]; ++b) {
+                    if (Prefers[a] != 0 && Prefers[b] != 0 && Prefers[a] != Prefers[b]) { Conflicts[a][b] = true; }
+                }
+            }
+        }
+    }
+    private static boolean isFired(int[] prefers, int from, int to) {
+        for (int r = from; r < to; ++r) {
+            if (prefers[r] != 0) { return true; }
+        }
+        return false;
+    }
+    private final boolean Adaptive;
+    private final AtomicLongArray Hits;
+    private final AtomicLong Scans;
+    private final LongAdder Compares;
+    private volatile int[] Order;
+    public ScanResponder(boolean adaptive) {
+        Adaptive = adaptive;
+        Order = new int[Tiers[Tiers.length - 1]];
+        for (int r = 0; r < Order.length; ++r) {
+            Order[r] = r;
+        }
+        Hits = new AtomicLongArray(Order.length);
+        Scans = new AtomicLong();
+        Compares = new LongAdder();
+    }
+    public long getScans() {
+        return Scans.get();
+    }
+    public double getMeanCompares() {
+        long Sz = Scans.get();
+        return Sz == 0 ? 0 : Compares.sum() / (double)Sz;
+    }
+    public int[] getOrder() {
+        return Order.clone();
+    }
+    private static int scan(int match, int[] order) {
+        int Cnt = 0;
+        for (int r : order) {
+            Pack Match = Rules.getMatch(r);
+            Pack Mask = Rules.getMask(r);
+            for (int i = 0; i < Match.size(); ++i) {
+                ++Cnt;
+                if ((match & Mask.getCase(i)) != Match.getMatch(i)) { continue; }
+                if (Match.getPreferred(i) != 0) { return (r << 8) | Cnt; }
+                break;
+            }
+        }
+        return (order.length << 8) | Cnt;
+    }
+    private static int getPreferred(int match, int r) {
+        if (r >= Tiers[Tiers.length - 1]) { return Board.locateChess(match, Chess.None); }
+        Pack Match = Rules.getMatch(r);
+        Pack Mask = Rules.getMask(r);
+        for (int i = 0; ; ++i) {
+            if ((match & Mask.getCase(i)) == Match.getMatch(i)) { return Match.getPreferred(i); }
+        }
+    }
+    @Override
+    public int checkResponse(int data) {
+        int Match = Board.getCase(data);
+        int Code = scan(Match, Order);
+        int r = Code >>> 8;
+        Compares.add(Code & 0xFF);
+        if (r < Order.length) { Hits.incrementAndGet(r); }
+        if ((Scans.incrementAndGet() & (Period - 1)) == 0 && Adaptive) { adapt(); }
+        return getPreferred(Match, r);
+    }
+    private synchronized void adapt() {
+        int[] Rst = new int[Order.length];
+        boolean[] Placed = new boolean[Order.length];
+        for (int t = 0; t + 1 < Tiers.length; ++t) {
+            for (int n = Tiers[t]; n < Tiers[t + 1]; ++n) {
+                int Best = -1;
+                for (int r = Tiers[t]; r < Tiers[t + 1]; ++r) {
+                    if (Placed[r] || !isFree(r, Placed)) { continue; }
+                    if (Best < 0 || Hits.get(r) > Hits.get(Best)) { Best = r; }
+                }
+                Placed[Best] = true;
+                Rst[n] = Best;
+            }
+        }
+        if (!Arrays.equals(Rst, Order) && verify(Rst)) { Order = Rst; }
+    }
+    private static boolean isFree(int r, boolean[] placed) {
+        for (int a = 0; a < r; ++a) {
+            if (Conflicts[a][r] && !placed[a]) { return false; }
+        }
+        return true;
+    }
+    private static boolean verify(int[] order) {
+        Board Bd = new Board(0);
+        for (int n = 0; n < Fillings; ++n) {
+            Rules.setBoard(Bd, n);
+            if (Canonical.rank(Bd.getData()) < 0) { continue; }
+            int Match = Bd.getCase();
+            if (getPreferred(Match, scan(Match, order) >>> 8) != Rules.checkResponse(Match)) { return false; }
+        }
+        return true;
+    }
+}
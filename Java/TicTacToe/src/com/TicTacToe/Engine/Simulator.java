@@ -0,0 +1,141 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+public class Simulator {
+    private static final int Chunk = 4096;
+    private final Responder Rs;
+    private final Opponent Op;
+    private final Solver Sv;
+    private final ForkJoinPool Pool;
+    private final RecordLog Lg;
+    private final long Seed;
+    public Simulator(Responder responder, Opponent opponent, int threads) {
+        this(responder, opponent, threads, null);
+    }
+    public Simulator(Responder responder, Opponent opponent, int threads, RecordLog log) {
+        this(responder, opponent, threads, log, ThreadLocalRandom.current().nextLong());
+    }
+    public Simulator(Responder responder, Opponent opponent, int threads, RecordLog log, long seed) {
+        Rs = responder;
+        Lg = log;
+        Seed = seed;
+        Op = opponent;
+        Sv = opponent == Opponent.Exhaustive ? new Solver() : null;
+        Pool = new ForkJoinPool(threads);
+    }
+    public long getSeed() {
+        return Seed;
+    }
+    public long[] run(Mode mode, long games) {
+        return Pool.invoke(new Games(mode, 0, games));
+    }
+    public Game replay(Mode mode, long n) {
+        Policy Po = Policies.uniform(0);
+        Game Rst = new Game(Rs, Po);
+        play(Rst, Po, mode, n);
+        return Rst;
+    }
+    public void shutdown() {
+        Pool.shutdown();
+    }
+    private int getCells(int data) {
+        int Empty = Board.locateChess(Board.getCase(data), Chess.None);
+        if (Op == Opponent.Exhaustive) { return Sv.getBest(data); }
+        if (Op == Opponent.Greedy) {
+            int Wins = 0;
+            int Blocks = 0;
+            for (int i = 1; i <= 9; ++i) {
+                if ((Empty & (1 << (i - 1))) == 0) { continue; }
+                if (Rules.checkResult(Board.setBits(data, i, Chess.O.toInt()), i) == Result.Won) { Wins |= 1 << (i - 1); }
+                if (Rules.checkResult(Board.setBits(data, i, Chess.X.toInt()), i) == Result.Lost) { Blocks |= 1 << (i - 1); }
+            }
+            if (Wins != 0) { return Wins; }
+            if (Blocks != 0) { return Blocks; }
+        }
+        return Empty;
+    }
+    private void play(Game game, Policy policy, Mode mode, long n) {
+        policy.seed(Policies.getSeed(Seed, n));
+        game.newGame(mode);
+        while (game.getRe() == Result.Empty) {
+            game.putChess(policy.choose(getCells(game.getData())));
+        }
+    }
+    private long[] play(Mode mode, long first, long games) {
+        long[] Rst = new long[4];
+        Policy Po = Policies.uniform(0);
+        Game Ga = new Game(Rs, Po);
+        for (long n = first; n < first + games; ++n) {
+            play(Ga, Po, mode, n);
+            ++Rst[Ga.getRe().toInt()];
+            if (Lg == null) { continue; }
+            try {
+                Lg.append(Ga.getRecord());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return Rst;
+    }
+    private class Games extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+        private final Mode Mo;
+        private final long First;
+        private final long Count;
+        public Games(Mode mode, long first, long count) {
+            Mo = mode;
+            First = first;
+            Count = count;
+        }
+        @Override
+        protected long[] compute() {
+            if (Count <= Chunk) { return play(Mo, First, Count); }
+            Games Fst = new Games(Mo, First, Count / 2);
+            Games Snd = new Games(Mo, First + Count / 2, Count - Count / 2);
+            Fst.fork();
+            long[] Rst = Snd.compute();
+            long[] Other = Fst.join();
+            for (int i = 0; i < Rst.length; ++i) {
+                Rst[i] += Other[i];
+            }
+            return Rst;
+        }
+    }
+}
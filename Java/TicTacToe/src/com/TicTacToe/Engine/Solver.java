@@ -0,0 +1,137 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+public class Solver implements Responder {
+    static final int Size = 1 << 19;
+    static final int Cells = 0x1FF;
+    static final int IValue = 9;
+    static final int IDistance = 11;
+    static final int Value = 0x600;
+    static final int Distance = 0x7800;
+    private static final int Filled = 0x8000;
+    private final short[] Entries;
+    public Solver() {
+        Entries = new short[Size];
+        for (Mode Mo : new Mode[] { Mode.Attacker, Mode.Defender }) {
+            solve(new Board(Mo).getData());
+        }
+        for (Mode Mo : new Mode[] { Mode.Attacker, Mode.Defender }) {
+            fill(new Board(Mo).getData());
+        }
+    }
+    static int getIndex(int data) {
+        int Side = Board.getBits(data, Board.ITurn) == Turn.Response.toInt() ? 1 : 0;
+        return Board.getField(Board.getCase(data)) | (Side << 18);
+    }
+    private static int getScore(int entry, int mover) {
+        int Rst = (entry & Value) >>> IValue;
+        int Dist = (entry & Distance) >>> IDistance;
+        if (Rst == Result.Tied.toInt()) { return 100; }
+        if ((Rst == Result.Lost.toInt()) == (mover == Chess.X.toInt())) { return 200 - Dist; }
+        return Dist;
+    }
+    private static int play(int data, int i) {
+        boolean User = Board.getBits(data, Board.ITurn) == Turn.User.toInt();
+        int Rst = Board.setBits(data, i, User ? Chess.O.toInt() : Chess.X.toInt());
+        Rst = Board.setBits(Rst, Board.ITurn, User ? Turn.Response.toInt() : Turn.User.toInt());
+        return Board.setBits(Rst, Board.IRound, Board.getBits(data, Board.IRound) + 1);
+    }
+    private int expand(int data) {
+        int Mover = Board.getBits(data, Board.ITurn) == Turn.User.toInt() ? Chess.O.toInt() : Chess.X.toInt();
+        int Best = -1;
+        int Rst = 0;
+        for (int i = 1; i <= 9; ++i) {
+            if (Board.getBits(data, i) != Chess.None.toInt()) { continue; }
+            int Child = play(data, i);
+            Result Over = Rules.checkResult(Child, i);
+            int Entry;
+            if (Over != Result.Empty) {
+                Entry = (Over.toInt() << IValue) | (1 << IDistance);
+            } else if (Board.getBits(Child, Board.IRound) == 9) {
+                Entry = (Result.Tied.toInt() << IValue) | (1 << IDistance);
+            } else {
+                Entry = (solve(Child) & (Value | Distance)) + (1 << IDistance);
+            }
+            int Score = getScore(Entry, Mover);
+            if (Score > Best) {
+                Best = Score;
+                Rst = Entry;
+            }
+            if (Score == Best) { Rst |= 1 << (i - 1); }
+        }
+        return Rst;
+    }
+    private int solve(int data) {
+        int Base = Canonical.toCanonical(data) & ~Symmetry.State;
+        int Index = getIndex(Base);
+        if (Entries[Index] == 0) { Entries[Index] = (short)expand(Base); }
+        return Entries[Index] & ~Filled;
+    }
+    private void fill(int data) {
+        int Index = getIndex(data);
+        if ((Entries[Index] & Filled) == Filled) { return; }
+        int Parse = Canonical.getParse(data);
+        int Entry = solve(data);
+        if (Parse != 0) {
+            int Back = Parse << Symmetry.IState;
+            for (int i = 1; i <= 9; ++i) {
+                if ((Entry & (1 << (i - 1))) != 0) { Back = Board.setBits(Back, i, Chess.Preferred.toInt()); }
+            }
+            Entry = (Entry & ~Cells) | Board.locateChess(Board.getCase(Symmetry.clear(Back)), Chess.Preferred);
+        }
+        Entries[Index] = (short)(Entry | Filled);
+        for (int i = 1; i <= 9; ++i) {
+            if (Board.getBits(data, i) != Chess.None.toInt()) { continue; }
+            int Child = play(data, i);
+            if (Rules.checkResult(Child, i) == Result.Empty && Board.getBits(Child, Board.IRound) < 9) { fill(Child); }
+        }
+    }
+    int getEntry(int index) {
+        return Entries[index];
+    }
+    public int getBest(int data) {
+        return Entries[getIndex(data)] & Cells;
+    }
+    public Result getValue(int data) {
+        return Result.from((Entries[getIndex(data)] & Value) >>> IValue);
+    }
+    public int getDistance(int data) {
+        return (Entries[getIndex(data)] & Distance) >>> IDistance;
+    }
+    @Override
+    public int checkResponse(int data) {
+        return getBest(data);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+public final class Symmetry {
+    private static final int Circle = 0xFFFF;
+    static final int IState = 16;
+    static final int State = 0xF0000;
+    private static final char[][] Lower;
+    private static final char[][] Upper;
+    private static final char[][] LowerBack;
+    private static final char[][] UpperBack;
+    private static final byte[][] States;
+    static {
+        Lower = new char[16][256];
+        Upper = new char[16][256];
+        LowerBack = new char[16][256];
+        UpperBack = new char[16][256];
+        States = new byte[16][];
+        Board Bd = new Board(0);
+        int[] Forward = new int[16];
+        int[] Backward = new int[16];
+        for (int s = 0; s < 16; ++s) {
+            for (int b = 0; b < 16; ++b) {
+                Bd.setData(1 << b);
+                Bd.setParse1((s & Board.P1) == Board.P1);
+                Bd.setParse2((s & Board.P2) == Board.P2);
+                Bd.setParse4((s & Board.P4) == Board.P4);
+                Bd.setParse8((s & Board.P8) == Board.P8);
+                Forward[b] = Bd.getData() & Circle;
+                Bd.setData((1 << b) | (s << IState));
+                Bd.clearParse();
+                Backward[b] = Bd.getData() & Circle;
+            }
+            for (int v = 1; v < 256; ++v) {
+                int b = Integer.numberOfTrailingZeros(v);
+                int Rest = v & (v - 1);
+                Lower[s][v] = (char)(Lower[s][Rest] | Forward[b]);
+                Upper[s][v] = (char)(Upper[s][Rest] | Forward[b + 8]);
+                LowerBack[s][v] = (char)(LowerBack[s][Rest] | Backward[b]);
+                UpperBack[s][v] = (char)(UpperBack[s][Rest] | Backward[b + 8]);
+            }
+            States[s] = new byte[1 << Integer.bitCount(s)];
+            for (int i = 0; i < States[s].length; ++i) {
+                int Sub = 0;
+                for (int Bit = 1, Rest = i; Bit <= Board.P8; Bit <<= 1) {
+                    if ((s & Bit) == 0) { continue; }
+                    if ((Rest & 1) == 1) { Sub |= Bit; }
+                    Rest >>>= 1;
+                }
+                States[s][i] = (byte)Sub;
+            }
+        }
+    }
+    public static int size(int state) {
+        return States[state & 0xF].length;
+    }
+    public static int getState(int state, int i) {
+        return States[state & 0xF][i];
+    }
+    public static int clear(int data) {
+        int s = (data & State) >>> IState;
+        int Nears = LowerBack[s][data & 0xFF] | UpperBack[s][(data >>> 8) & 0xFF];
+        return (data & ~(Circle | State)) | Nears;
+    }
+    public static int parse(int data, int state) {
+        int Base = clear(data);
+        int s = state & 0xF;
+        int Nears = Lower[s][Base & 0xFF] | Upper[s][(Base >>> 8) & 0xFF];
+        return (Base & ~Circle) | Nears | (s << IState);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+public class Tablebase implements Responder, Closeable {
+    private final FileChannel Ch;
+    private final ShortBuffer Entries;
+    public Tablebase(Path path) throws IOException {
+        Ch = FileChannel.open(path, StandardOpenOption.READ);
+        if (Ch.size() != Solver.Size * 2L) {
+            Ch.close();
+            throw new IOException("Not a tablebase: " + path);
+        }
+        Entries = Ch.map(FileChannel.MapMode.READ_ONLY, 0, Solver.Size * 2L).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+    }
+    public static void write(Path path) throws IOException {
+        Solver Sv = new Solver();
+        ByteBuffer Bf = ByteBuffer.allocateDirect(Solver.Size * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int n = 0; n < Solver.Size; ++n) {
+            Bf.putShort((short)Sv.getEntry(n));
+        }
+        Bf.flip();
+        try (FileChannel Out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+            while (Bf.hasRemaining()) {
+                Out.write(Bf);
+            }
+        }
+    }
+    private int getEntry(int data) {
+        return Entries.get(Solver.getIndex(data));
+    }
+    public int getBest(int data) {
+        return getEntry(data) & Solver.Cells;
+    }
+    public Result getValue(int data) {
+        return Result.from((getEntry(data) & Solver.Value) >>> Solver.IValue);
+    }
+    public int getDistance(int data) {
+        return (getEntry(data) & Solver.Distance) >>> Solver.IDistance;
+    }
+    @Override
+    public int checkResponse(int data) {
+        return getBest(data);
+    }
+    @Override
+    public void close() throws IOException {
+        Ch.close();
+    }
+}
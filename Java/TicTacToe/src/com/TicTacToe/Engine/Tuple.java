@@ -0,0 +1,76 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+class Tuple {
+    public final int Data;
+    public final Pack Won;
+    public final Pack Lost;
+    public final Pack Mask;
+    public Tuple(int Code) {
+        Data = Code & Pack.Field;
+        Boxes BWon = new Boxes(Code);
+        Boxes BLost = new Boxes(Code);
+        Boxes BMask = new Boxes(Code);
+        for (int i = 0; i <= 10; ++i)
+        {
+            if (BWon.get(i) == 0b01) { BWon.set(i, 0b00); }
+            if (BLost.get(i) == 0b01) { BLost.set(i, 0b00); }
+            else if (BLost.get(i) == 0b10) { BLost.set(i, 0b01); }
+            if (BMask.get(i) == 0b01) { BMask.set(i, 0b00); }
+            else { BMask.set(i, 0b11); }
+        }
+        Won = new Pack((BWon.getValues() & Pack.Match) | (Code & Pack.Parse));
+        Lost = new Pack((BLost.getValues() & Pack.Match) | (Code & Pack.Parse));
+        Mask = new Pack((BMask.getValues() & Pack.Match) | (Code & Pack.Parse));
+    }
+    @Override
+    public String toString() {
+        Boxes BData = new Boxes(Data);
+        StringBuilder Rst = new StringBuilder(100);
+        Rst.append("Tuple [ ");
+        for (int i = 10; i >= 0; --i)
+        {
+            if (i == 3 || i == 7) { Rst.append(", "); }
+            else if (BData.get(i) == 0b00) { Rst.append("_"); }
+            else if (BData.get(i) == 0b01) { Rst.append("~"); }
+            else if (BData.get(i) == 0b10) { Rst.append("$"); }
+            else if (BData.get(i) == 0b11) { Rst.append("+"); }
+        }
+        Rst.append(" ] ( 0b");
+        Rst.append(String.format("%4s", Integer.toBinaryString(Data >>> 24)).replace(" ", "0"));
+        Rst.append(" )");
+        return Rst.toString();
+    }
+}
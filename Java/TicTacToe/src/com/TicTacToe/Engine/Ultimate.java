@@ -0,0 +1,195 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+public class Ultimate {
+    public static final int Size = 81;
+    private static final int[] Lines = new int[] { 0b000000111, 0b000111000, 0b111000000, 0b001001001, 0b010010010, 0b100100100,
+        0b100010001, 0b001010100 };
+    private static final int[] Weights = new int[] { 3, 2, 3, 2, 4, 2, 3, 2, 3 };
+    private static final long[][] Keys = new long[Size][2];
+    private static final long[] Targets = new long[10];
+    private static final long Side;
+    static {
+        SplittableRandom R = new SplittableRandom(0x7AC7AC7ACL);
+        for (long[] K : Keys) {
+            K[0] = R.nextLong();
+            K[1] = R.nextLong();
+        }
+        for (int t = 0; t < Targets.length; ++t) {
+            Targets[t] = R.nextLong();
+        }
+        Side = R.nextLong();
+    }
+    private final int[] Boards;
+    private final int[] Moves;
+    private int Meta;
+    private int Target;
+    private int Round;
+    private long Hash;
+    public Ultimate() {
+        Boards = new int[9];
+        Moves = new int[Size];
+        Arrays.fill(Boards, new Board(Mode.Attacker).getData());
+        Meta = new Board(Mode.Attacker).getData();
+        Target = -1;
+        Hash = Targets[0];
+    }
+    public Ultimate(Ultimate other) {
+        Boards = other.Boards.clone();
+        Moves = other.Moves.clone();
+        Meta = other.Meta;
+        Target = other.Target;
+        Round = other.Round;
+        Hash = other.Hash;
+    }
+    public int getBoard(int sub) {
+        return Boards[sub];
+    }
+    public int getMeta() {
+        return Meta;
+    }
+    public int getTarget() {
+        return Target;
+    }
+    public int getRound() {
+        return Round;
+    }
+    public long getHash() {
+        return Hash;
+    }
+    public Chess getMover() {
+        return Board.getBits(Meta, Board.ITurn) == Turn.User.toInt() ? Chess.O : Chess.X;
+    }
+    public Chess get(int move) {
+        return Chess.from(Board.getBits(Boards[move / 9], move % 9 + 1));
+    }
+    public Result getResult() {
+        return Result.from(Board.getBits(Meta, Board.IResult));
+    }
+    public boolean isOver() {
+        return getResult() != Result.Empty;
+    }
+    private static int getMask(int data, int chess) {
+        int Rst = 0;
+        for (int i = 1; i <= 9; ++i) {
+            if (Board.getBits(data, i) == chess) { Rst |= 1 << (i - 1); }
+        }
+        return Rst;
+    }
+    private static boolean isOpen(int data) {
+        return Board.getBits(data, Board.IResult) == Result.Empty.toInt();
+    }
+    public int getMoves(int[] moves) {
+        int Sz = 0;
+        for (int s = 0; s < 9; ++s) {
+            if (Target >= 0 && s != Target || !isOpen(Boards[s])) { continue; }
+            for (int Empty = getMask(Boards[s], Chess.None.toInt()); Empty != 0; Empty &= Empty - 1) {
+                moves[Sz++] = s * 9 + Integer.numberOfTrailingZeros(Empty);
+            }
+        }
+        return Sz;
+    }
+    private static int settle(int data, int i) {
+        int Over = Rules.checkResult(data, i).toInt();
+        if (Over == Result.Empty.toInt() && Board.getBits(data, Board.IRound) == 9) { Over = Result.Tied.toInt(); }
+        return Over;
+    }
+    public void put(int move) {
+        int s = move / 9;
+        int i = move % 9 + 1;
+        int Mover = getMover() == Chess.O ? 0 : 1;
+        int Sub = Board.setBits(Boards[s], i, Mover == 0 ? Chess.O.toInt() : Chess.X.toInt());
+        Sub = Board.setBits(Sub, Board.IRound, Board.getBits(Sub, Board.IRound) + 1);
+        int Over = settle(Sub, i);
+        Boards[s] = Board.setBits(Sub, Board.IResult, Over);
+        if (Over != Result.Empty.toInt()) {
+            int Owner = Over == Result.Won.toInt() ? Chess.O.toInt() : Over == Result.Lost.toInt() ? Chess.X.toInt() : Chess.Preferred.toInt();
+            Meta = Board.setBits(Meta, s + 1, Owner);
+            Meta = Board.setBits(Meta, Board.IRound, Board.getBits(Meta, Board.IRound) + 1);
+            Meta = Board.setBits(Meta, Board.IResult, settle(Meta, s + 1));
+        }
+        Meta = Board.setBits(Meta, Board.ITurn, Mover == 0 ? Turn.Response.toInt() : Turn.User.toInt());
+        Moves[Round++] = move | ((Target + 1) << 7);
+        Hash ^= Keys[move][Mover] ^ Targets[Target + 1] ^ Side;
+        Target = isOpen(Boards[i - 1]) ? i - 1 : -1;
+        Hash ^= Targets[Target + 1];
+    }
+    public void undo() {
+        int Entry = Moves[--Round];
+        int move = Entry & 0x7F;
+        int s = move / 9;
+        int i = move % 9 + 1;
+        Hash ^= Targets[Target + 1];
+        Target = (Entry >>> 7) - 1;
+        Meta = Board.setBits(Meta, Board.ITurn, getMover() == Chess.O ? Turn.Response.toInt() : Turn.User.toInt());
+        int Mover = getMover() == Chess.O ? 0 : 1;
+        Hash ^= Keys[move][Mover] ^ Targets[Target + 1] ^ Side;
+        if (!isOpen(Boards[s])) {
+            Meta = Board.setBits(Meta, s + 1, Chess.None.toInt());
+            Meta = Board.setBits(Meta, Board.IRound, Board.getBits(Meta, Board.IRound) - 1);
+            Meta = Board.setBits(Meta, Board.IResult, Result.Empty.toInt());
+        }
+        int Sub = Board.setBits(Boards[s], i, Chess.None.toInt());
+        Sub = Board.setBits(Sub, Board.IRound, Board.getBits(Sub, Board.IRound) - 1);
+        Boards[s] = Board.setBits(Sub, Board.IResult, Result.Empty.toInt());
+    }
+    private static int getLines(int own, int other) {
+        int Rst = 0;
+        for (int L : Lines) {
+            if ((L & other) != 0) { continue; }
+            int Cnt = Integer.bitCount(L & own);
+            Rst += Cnt * Cnt;
+        }
+        return Rst;
+    }
+    public int getScore() {
+        int Os = getMask(Meta, Chess.O.toInt());
+        int Xs = getMask(Meta, Chess.X.toInt());
+        int Dead = getMask(Meta, Chess.Preferred.toInt());
+        int Rst = 64 * (getLines(Os, Xs | Dead) - getLines(Xs, Os | Dead));
+        for (int s = 0; s < 9; ++s) {
+            if ((Os >>> s & 1) != 0) { Rst += 16 * Weights[s]; }
+            else if ((Xs >>> s & 1) != 0) { Rst -= 16 * Weights[s]; }
+            else if ((Dead >>> s & 1) == 0) {
+                int SubOs = getMask(Boards[s], Chess.O.toInt());
+                int SubXs = getMask(Boards[s], Chess.X.toInt());
+                Rst += Weights[s] * (getLines(SubOs, SubXs) - getLines(SubXs, SubOs));
+            }
+        }
+        return getMover() == Chess.O ? Rst : -Rst;
+    }
+}
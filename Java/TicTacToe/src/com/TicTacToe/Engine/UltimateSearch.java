@@ -0,0 +1,216 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+public class UltimateSearch {
+    private static final int Win = 1 << 20;
+    private static final int Exact = 0;
+    private static final int Lower = 1;
+    private static final int Upper = 2;
+    private final Ultimate Ug;
+    private final int Threads;
+    private final ExecutorService Pool;
+    private final long[] Keys;
+    private final long[] Entries;
+    private final int Mask;
+    private volatile boolean Stopped;
+    private long Deadline;
+    private long Nodes;
+    private long Nanos;
+    private int Depth;
+    private int Value;
+    private int Best;
+    public UltimateSearch(Ultimate game, int threads) {
+        this(game, threads, 20);
+    }
+    public UltimateSearch(Ultimate game, int threads, int bits) {
+        Ug = game;
+        Threads = threads;
+        Pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread Rst = new Thread(r, "UltimateSearch");
+            Rst.setDaemon(true);
+            return Rst;
+        });
+        Keys = new long[1 << bits];
+        Entries = new long[1 << bits];
+        Mask = (1 << bits) - 1;
+    }
+    public long getNodes() {
+        return Nodes;
+    }
+    public long getNanos() {
+        return Nanos;
+    }
+    public double getNodesPerSecond() {
+        return Nanos == 0 ? 0 : Nodes * 1e9 / Nanos;
+    }
+    public int getDepth() {
+        return Depth;
+    }
+    public int getValue() {
+        return Value;
+    }
+    public void shutdown() {
+        Pool.shutdown();
+    }
+    public int search(long millis) {
+        long Start = System.nanoTime();
+        Deadline = Start + millis * 1000000;
+        Stopped = false;
+        Depth = 0;
+        Value = 0;
+        Best = -1;
+        List<Callable<Long>> Tasks = new ArrayList<>(Threads);
+        for (int t = 0; t < Threads; ++t) {
+            Tasks.add(new Worker(t));
+        }
+        Nodes = 0;
+        try {
+            for (Future<Long> F : Pool.invokeAll(Tasks)) {
+                Nodes += F.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        Nanos = System.nanoTime() - Start;
+        return Best;
+    }
+    private void store(long hash, int depth, int value, int flag, int move) {
+        long Data = ((long)value << 32) | (depth << 16) | (flag << 8) | (move + 1);
+        int Index = (int)hash & Mask;
+        Entries[Index] = Data;
+        Keys[Index] = hash ^ Data;
+    }
+    private long probe(long hash) {
+        int Index = (int)hash & Mask;
+        long Data = Entries[Index];
+        return (Keys[Index] ^ Data) == hash ? Data : 0;
+    }
+    private class Worker implements Callable<Long> {
+        private final int Id;
+        private final Ultimate Gm;
+        private final int[][] Moves;
+        private final int[][] Ranks;
+        private final int[] History;
+        private long Count;
+        public Worker(int id) {
+            Id = id;
+            Gm = new Ultimate(Ug);
+            Moves = new int[Ultimate.Size + 1][Ultimate.Size];
+            Ranks = new int[Ultimate.Size + 1][Ultimate.Size];
+            History = new int[Ultimate.Size];
+        }
+        @Override
+        public Long call() {
+            int Left = Ultimate.Size - Gm.getRound();
+            for (int d = 1 + (Id & 1); d <= Left; ++d) {
+                int Rst = alphaBeta(d, 0, -Win, Win);
+                if (Stopped) { break; }
+                if (Id != 0) { continue; }
+                Depth = d;
+                Value = Rst;
+                if (Math.abs(Rst) >= Win - Ultimate.Size) { break; }
+            }
+            if (Id == 0) { Stopped = true; }
+            return Count;
+        }
+        private int order(int ply, int first) {
+            int[] Ms = Moves[ply];
+            int[] Rs = Ranks[ply];
+            int Sz = Gm.getMoves(Ms);
+            for (int i = 0; i < Sz; ++i) {
+                int M = Ms[i];
+                int R = M == first ? Integer.MAX_VALUE : History[M];
+                int j = i;
+                for (; j > 0 && Rs[j - 1] < R; --j) {
+                    Ms[j] = Ms[j - 1];
+                    Rs[j] = Rs[j - 1];
+                }
+                Ms[j] = M;
+                Rs[j] = R;
+            }
+            return Sz;
+        }
+        private int alphaBeta(int depth, int ply, int alpha, int beta) {
+            if ((++Count & 0x3FF) == 0 && System.nanoTime() > Deadline && Best != -1) { Stopped = true; }
+            if (Stopped) { return 0; }
+            if (Gm.getResult() == Result.Won || Gm.getResult() == Result.Lost) { return ply - Win; }
+            if (Gm.isOver()) { return 0; }
+            if (depth == 0) { return Gm.getScore(); }
+            long Hash = Gm.getHash();
+            long Hit = probe(Hash);
+            int First = (int)(Hit & 0xFF) - 1;
+            if (Hit != 0 && ply > 0 && ((Hit >>> 16) & 0xFF) >= depth) {
+                int Stored = (int)(Hit >> 32);
+                if (Stored >= Win - Ultimate.Size) { Stored -= ply; }
+                else if (Stored <= Ultimate.Size - Win) { Stored += ply; }
+                int Flag = (int)(Hit >>> 8) & 0xFF;
+                if (Flag == Exact || Flag == Lower && Stored >= beta || Flag == Upper && Stored <= alpha) { return Stored; }
+            }
+            int Origin = alpha;
+            int Top = -Win;
+            int Chosen = -1;
+            int Sz = order(ply, ply == 0 && Best != -1 ? Best : First);
+            for (int i = 0; i < Sz; ++i) {
+                int M = Moves[ply][i];
+                Gm.put(M);
+                int Rst = -alphaBeta(depth - 1, ply + 1, -beta, -alpha);
+                Gm.undo();
+                if (Stopped) { return 0; }
+                if (Rst > Top) {
+                    Top = Rst;
+                    Chosen = M;
+                    if (ply == 0 && Id == 0 && (Rst > alpha || i == 0)) { Best = M; }
+                }
+                if (Rst > alpha) { alpha = Rst; }
+                if (alpha >= beta) {
+                    History[M] += depth * depth;
+                    break;
+                }
+            }
+            int Stored = Top >= Win - Ultimate.Size ? Top + ply : Top <= Ultimate.Size - Win ? Top - ply : Top;
+            store(Hash, depth, Stored, Top <= Origin ? Upper : Top >= beta ? Lower : Exact, Chosen);
+            return Top;
+        }
+    }
+}
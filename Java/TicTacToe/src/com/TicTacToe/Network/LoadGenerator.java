@@ -0,0 +1,145 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Network;
+import com.TicTacToe.Engine.*;
+import java.io.*;
+import java.net.*;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+public class LoadGenerator {
+    private final InetSocketAddress Address;
+    private final int Games;
+    private final long[][] Latencies;
+    private final int[] Counts;
+    private final boolean[] Failed;
+    private final CountDownLatch Done;
+    public LoadGenerator(InetSocketAddress address, int sessions, int games) {
+        Address = address;
+        Games = games;
+        Latencies = new long[sessions][];
+        Counts = new int[sessions];
+        Failed = new boolean[sessions];
+        Done = new CountDownLatch(sessions);
+    }
+    public long[] run() throws InterruptedException {
+        ExecutorService Clients = Threads.newPerTaskExecutor();
+        for (int i = 0; i < Latencies.length; ++i) {
+            Clients.execute(new Client(i));
+        }
+        Done.await();
+        Clients.shutdown();
+        int Sz = 0;
+        for (int n : Counts) { Sz += n; }
+        long[] Rst = new long[Sz];
+        int At = 0;
+        for (int i = 0; i < Latencies.length; ++i) {
+            System.arraycopy(Latencies[i], 0, Rst, At, Counts[i]);
+            At += Counts[i];
+        }
+        Arrays.sort(Rst);
+        return Rst;
+    }
+    public int getFailures() {
+        int Rst = 0;
+        for (boolean f : Failed) {
+            if (f) { ++Rst; }
+        }
+        return Rst;
+    }
+    public static long getPercentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) { return 0; }
+        int i = (int)Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, i))];
+    }
+    private class Client implements Runnable {
+        private final int Id;
+        private final byte[] Reply;
+        private InputStream In;
+        private OutputStream Out;
+        public Client(int id) {
+            Id = id;
+            Reply = new byte[9];
+        }
+        private int request(char command, int argument) throws IOException {
+            long Start = System.nanoTime();
+            Out.write(command);
+            if (argument >= 0) { Out.write('0' + argument); }
+            Out.write('\n');
+            Out.flush();
+            int Sz = 0;
+            int b;
+            while ((b = In.read()) != '\n') {
+                if (b == -1) { throw new EOFException(); }
+                Reply[Sz++] = (byte)b;
+            }
+            if (Counts[Id] == Latencies[Id].length) { Latencies[Id] = Arrays.copyOf(Latencies[Id], Counts[Id] * 2); }
+            Latencies[Id][Counts[Id]++] = System.nanoTime() - Start;
+            int Rst = 0;
+            for (int i = 0; i < Sz; ++i) {
+                Rst = (Rst << 4) | Character.digit(Reply[i], 16);
+            }
+            return Rst;
+        }
+        @Override
+        public void run() {
+            Latencies[Id] = new long[Games * 6];
+            try (Socket So = new Socket()) {
+                So.setTcpNoDelay(true);
+                So.connect(Address);
+                In = new BufferedInputStream(So.getInputStream());
+                Out = new BufferedOutputStream(So.getOutputStream());
+                Board Bo = new Board(0);
+                for (int g = 0; g < Games; ++g) {
+                    Bo.setData(request('N', ThreadLocalRandom.current().nextInt(2)));
+                    while (Bo.getResult() == Result.Empty) {
+                        int Empty = Board.locateChess(Bo.getCase(), Chess.None);
+                        int n = ThreadLocalRandom.current().nextInt(Integer.bitCount(Empty));
+                        for (int i = 0; i < n; ++i) { Empty &= Empty - 1; }
+                        Bo.setData(request('P', Integer.numberOfTrailingZeros(Empty) + 1));
+                    }
+                }
+                Out.write('Q');
+                Out.write('\n');
+                Out.flush();
+            } catch (IOException e) {
+                Failed[Id] = true;
+            } finally {
+                Done.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Network;
+import com.TicTacToe.Engine.*;
+import java.io.*;
+import java.net.Socket;
+class Session implements Runnable {
+    private static final byte[] Hex = "0123456789ABCDEF".getBytes();
+    private final Socket So;
+    private final Game Ga;
+    private final RecordLog Lg;
+    private final byte[] Reply;
+    public Session(Socket socket, Responder responder, RecordLog log) {
+        So = socket;
+        Ga = new Game(responder);
+        Lg = log;
+        Reply = new byte[9];
+    }
+    private int replyData(int data) {
+        for (int i = 0; i < 8; ++i) {
+            Reply[i] = Hex[(data >>> (28 - 4 * i)) & 0xF];
+        }
+        Reply[8] = '\n';
+        return 9;
+    }
+    private int replyResult(Result result) {
+        Reply[0] = (byte)('0' + result.toInt());
+        Reply[1] = '\n';
+        return 2;
+    }
+    private int replyError() {
+        Reply[0] = 'E';
+        Reply[1] = '\n';
+        return 2;
+    }
+    private int process(int command, int argument) throws IOException {
+        if (command == 'N' && argument >= Mode.Attacker.toInt() && argument <= Mode.DebugDefender.toInt()) {
+            Ga.newGame(Mode.from(argument));
+            return replyData(Ga.getData());
+        } else if (command == 'P' && argument >= 1 && argument <= 9) {
+            if (Ga.putChess(argument) && Lg != null && Ga.getRe() != Result.Empty) { Lg.append(Ga.getRecord()); }
+            return replyData(Ga.getData());
+        } else if (command == 'G') {
+            return replyData(Ga.getData());
+        } else if (command == 'R') {
+            return replyResult(Ga.getRe());
+        }
+        return replyError();
+    }
+    @Override
+    public void run() {
+        try (Socket Client = So) {
+            InputStream In = new BufferedInputStream(Client.getInputStream());
+            OutputStream Out = new BufferedOutputStream(Client.getOutputStream());
+            int Command;
+            while ((Command = In.read()) != -1 && Command != 'Q') {
+                int Argument = 0;
+                int b;
+                while ((b = In.read()) != '\n' && b != -1) {
+                    if (b >= '0' && b <= '9') { Argument = Argument * 10 + (b - '0'); }
+                }
+                Out.write(Reply, 0, process(Command, Argument));
+                Out.flush();
+                if (b == -1) { break; }
+            }
+        } catch (IOException e) {
+            return;
+        }
+    }
+}
@@ -33,8 +33,234 @@
  *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
  */
 package com.TicTacToe;
+import com.TicTacToe.Engine.*;
+import com.TicTacToe.Network.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.LongBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import javax.swing.SwingUtilities;
 public class Program {
-    public static void main(String[] args) {
-	    MainWindow.runLoop(new MainWindow());
+    private static Responder getResponder(String name) throws IOException {
+        switch (name) {
+            case "perfect":
+                return new Solver();
+            case "mcts":
+                return new MonteCarlo(Long.getLong("TicTacToe.millis", 100), Runtime.getRuntime().availableProcessors());
+            case "tablebase":
+                return new Tablebase(Paths.get(System.getProperty("TicTacToe.tablebase", "Tablebase.bin")));
+            case "scan":
+                return new ScanResponder(false);
+            case "adaptive":
+                return new ScanResponder(true);
+            default:
+                return new RuleResponder();
+        }
+    }
+    private static RecordLog getLog(String[] args, int i) throws IOException {
+        return args.length > i && !args[i].equals("-") ? new RecordLog(Paths.get(args[i])) : null;
+    }
+    private static void selfPlay(String[] args) throws IOException {
+        long Games = args.length > 1 ? Long.parseLong(args[1]) : 1000000;
+        Opponent Op = args.length > 2 ? Opponent.valueOf(args[2]) : Opponent.Random;
+        Responder Rs = getResponder(args.length > 3 ? args[3] : "rules");
+        int Threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        RecordLog Lg = getLog(args, 5);
+        long Seed = args.length > 6 ? Long.parseLong(args[6]) : System.nanoTime();
+        Simulator Sm = new Simulator(Rs, Op, Threads, Lg, Seed);
+        System.out.println("Opponent." + Op + " against " + Rs.getClass().getSimpleName() + " on " + Threads + " threads with seed " + Seed);
+        for (Mode Mo : new Mode[] { Mode.Attacker, Mode.Defender }) {
+            long Start = System.nanoTime();
+            long[] Rst = Sm.run(Mo, Games);
+            double Secs = (System.nanoTime() - Start) / 1e9;
+            System.out.printf("Mode.%-8s Won %10d  Lost %10d  Tied %10d  %12.0f games/s%n", Mo, Rst[Result.Won.toInt()],
+                Rst[Result.Lost.toInt()], Rst[Result.Tied.toInt()], Games / Secs);
+        }
+        if (Rs instanceof ScanResponder) {
+            ScanResponder Sc = (ScanResponder)Rs;
+            System.out.printf("Scanned %d responses at %.3f compares each%n", Sc.getScans(), Sc.getMeanCompares());
+        }
+        Sm.shutdown();
+        if (Lg != null) { Lg.close(); }
+    }
+    private static void serve(String[] args) throws IOException {
+        int Port = args.length > 1 ? Integer.parseInt(args[1]) : 9009;
+        RecordLog Lg = getLog(args, 3);
+        try (Server Sr = new Server(Port, getResponder(args.length > 2 ? args[2] : "rules"), Lg)) {
+            System.out.println("Listening on port " + Sr.getPort());
+            Sr.runLoop();
+        } finally {
+            if (Lg != null) { Lg.close(); }
+        }
+    }
+    private static void replay(String[] args) throws IOException {
+        try (RecordReader Rr = new RecordReader(Paths.get(args.length > 1 ? args[1] : "games.log"))) {
+            long[][] Rst = new long[4][4];
+            long Start = System.nanoTime();
+            for (int s = 0; s < Rr.getSegments(); ++s) {
+                LongBuffer Bf = Rr.getSegment(s);
+                while (Bf.hasRemaining()) {
+                    long Rc = Bf.get();
+                    ++Rst[Records.getMode(Rc).toInt()][Records.getResult(Rc).toInt()];
+                }
+            }
+            double Secs = (System.nanoTime() - Start) / 1e9;
+            int Mismatches = 0;
+            for (long n = 0; n < Math.min(Rr.size(), 10000); ++n) {
+                long Rc = Rr.get(n);
+                if (Records.replay(Rc).getRecord() != Rc) { ++Mismatches; }
+            }
+            for (int m = 0; m < 4; ++m) {
+                System.out.printf("Mode.%-13s Won %10d  Lost %10d  Tied %10d%n", Mode.from(m), Rst[m][Result.Won.toInt()],
+                    Rst[m][Result.Lost.toInt()], Rst[m][Result.Tied.toInt()]);
+            }
+            System.out.printf("%d records, %.0f records/s, %.0f MB/s, %d of the first 10000 replayed differently%n", Rr.size(),
+                Rr.size() / Secs, Rr.size() * 8 / Secs / 1e6, Mismatches);
+        }
+    }
+    private static void analyze(String[] args) throws IOException {
+        Analyzer An = new Analyzer(getResponder(args.length > 3 ? args[3] : "rules"));
+        boolean Stdin = args.length <= 1 || args[1].equals("-");
+        boolean Stdout = args.length <= 2 || args[2].equals("-");
+        try (ReadableByteChannel In = Stdin ? Channels.newChannel(System.in) : FileChannel.open(Paths.get(args[1]));
+             WritableByteChannel Out = Stdout ? Channels.newChannel(System.out) : FileChannel.open(Paths.get(args[2]),
+                 StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long Start = System.nanoTime();
+            long Count = An.run(In, Out);
+            double Secs = (System.nanoTime() - Start) / 1e9;
+            System.err.printf("%d positions, %.0f positions/s%n", Count, Count / Secs);
+        }
+    }
+    private static void connect(String[] args) {
+        int Rows = args.length > 1 ? Integer.parseInt(args[1]) : 15;
+        int Cols = args.length > 2 ? Integer.parseInt(args[2]) : 15;
+        int Goal = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+        long Millis = args.length > 4 ? Long.parseLong(args[4]) : 1000;
+        Grid Gd = new Grid(Rows, Cols, Goal);
+        GridSearch Gs = new GridSearch(Gd);
+        while (Gd.getResult() == Result.Empty) {
+            Chess Mover = Gd.getMover();
+            int Cell = Gs.search(Millis);
+            Gd.put(Cell);
+            System.out.printf("%3d %s (%2d, %2d)  depth %2d  value %11d  nodes %10d  %10.0f nodes/s%n", Gd.getRound(), Mover,
+                Cell / Cols, Cell % Cols, Gs.getDepth(), Gs.getValue(), Gs.getNodes(), Gs.getNodesPerSecond());
+        }
+        for (int r = 0; r < Rows; ++r) {
+            StringBuilder Row = new StringBuilder(Cols);
+            for (int c = 0; c < Cols; ++c) {
+                Chess Ch = Gd.get(r * Cols + c);
+                Row.append(Ch == Chess.O ? 'O' : Ch == Chess.X ? 'X' : '_');
+            }
+            System.out.println(Row);
+        }
+        System.out.println("Result." + Gd.getResult());
+    }
+    private static void ultimate(String[] args) {
+        long Millis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        int Threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Ultimate Ug = new Ultimate();
+        UltimateSearch Us = new UltimateSearch(Ug, Threads);
+        while (!Ug.isOver()) {
+            Chess Mover = Ug.getMover();
+            int Move = Us.search(Millis);
+            Ug.put(Move);
+            System.out.printf("%3d %s (%d, %d)  depth %2d  value %8d  nodes %10d  %10.0f nodes/s%n", Ug.getRound(), Mover, Move / 9 + 1,
+                Move % 9 + 1, Us.getDepth(), Us.getValue(), Us.getNodes(), Us.getNodesPerSecond());
+        }
+        Us.shutdown();
+        for (int r = 0; r < 9; ++r) {
+            StringBuilder Row = new StringBuilder(11);
+            for (int c = 0; c < 9; ++c) {
+                Chess Ch = Ug.get((r / 3 * 3 + c / 3) * 9 + r % 3 * 3 + c % 3);
+                Row.append(Ch == Chess.O ? 'O' : Ch == Chess.X ? 'X' : '_');
+                if (c == 2 || c == 5) { Row.append(' '); }
+            }
+            System.out.println(Row);
+            if (r == 2 || r == 5) { System.out.println(); }
+        }
+        System.out.println("Result." + Ug.getResult());
+    }
+    private static void generate(String[] args) throws IOException {
+        try (OutputStream Os = Files.newOutputStream(Paths.get(args.length > 1 ? args[1] : "res/Rules.bin"))) {
+            Rules.write(Os);
+        }
+    }
+    private static void solve(String[] args) throws IOException {
+        long Start = System.nanoTime();
+        Tablebase.write(Paths.get(args.length > 1 ? args[1] : "Tablebase.bin"));
+        System.out.printf("Solved in %.1f ms%n", (System.nanoTime() - Start) / 1e6);
+    }
+    private static void playouts(String[] args) {
+        long Millis = args.length > 1 ? Long.parseLong(args[1]) : 20;
+        int Threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        MonteCarlo Mc = new MonteCarlo(Millis, Threads);
+        Solver Sv = new Solver();
+        int Positions = 0;
+        int Mismatches = 0;
+        for (int r = 0; r < Canonical.size(); ++r) {
+            int Match = Board.getCase(Canonical.unrank(r));
+            int Os = Integer.bitCount(Board.locateChess(Match, Chess.O));
+            int Xs = Integer.bitCount(Board.locateChess(Match, Chess.X));
+            if (Os < Xs || Os + Xs == 9 || Rules.checkResult(Match) != Result.Empty) { continue; }
+            int Data = Board.setCase(new Board(Os > Xs ? Mode.Attacker : Mode.Defender).getData(), Match);
+            Data = Boards.withRound(Boards.withTurn(Data, Turn.Response), Os + Xs);
+            int Child = Journal.play(Data, Integer.numberOfTrailingZeros(Mc.checkResponse(Data)) + 1);
+            Result Value = Boards.getResult(Child) != Result.Empty ? Boards.getResult(Child) : Sv.getValue(Child);
+            if (Value != Sv.getValue(Data)) { ++Mismatches; }
+            ++Positions;
+        }
+        Mc.shutdown();
+        System.out.printf("%d positions at %d ms on %d threads, %d moves off the Solver's value, %.0f playouts/s%n", Positions, Millis,
+            Threads, Mismatches, Mc.getPlayoutsPerSecond());
+    }
+    private static void load(String[] args) throws InterruptedException {
+        int Port = args.length > 1 ? Integer.parseInt(args[1]) : 9009;
+        int Sessions = args.length > 2 ? Integer.parseInt(args[2]) : 10000;
+        int Games = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        long Start = System.nanoTime();
+        LoadGenerator Lg = new LoadGenerator(new InetSocketAddress(InetAddress.getLoopbackAddress(), Port), Sessions, Games);
+        long[] Rst = Lg.run();
+        double Secs = (System.nanoTime() - Start) / 1e9;
+        System.out.printf("%d sessions (%d failed), %d requests, %.0f requests/s%n", Sessions, Lg.getFailures(), Rst.length, Rst.length / Secs);
+        System.out.printf("p50 %.1f us  p99 %.1f us  max %.1f us%n", LoadGenerator.getPercentile(Rst, 50) / 1e3,
+            LoadGenerator.getPercentile(Rst, 99) / 1e3, LoadGenerator.getPercentile(Rst, 100) / 1e3);
+    }
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (Metrics.Enabled) { Runtime.getRuntime().addShutdownHook(new Thread(() -> System.err.print(Metrics.snapshot()))); }
+        if (args.length > 0 && args[0].equals("server")) {
+            serve(args);
+        } else if (args.length > 0 && args[0].equals("load")) {
+            load(args);
+        } else if (args.length > 0 && args[0].equals("replay")) {
+            replay(args);
+        } else if (args.length > 0 && args[0].equals("mnk")) {
+            connect(args);
+        } else if (args.length > 0 && args[0].equals("selfplay")) {
+            selfPlay(args);
+        } else if (args.length > 0 && args[0].equals("analyze")) {
+            analyze(args);
+        } else if (args.length > 0 && args[0].equals("ultimate")) {
+            ultimate(args);
+        } else if (args.length > 0 && args[0].equals("playouts")) {
+            playouts(args);
+        } else if (args.length > 0 && args[0].equals("solve")) {
+            solve(args);
+        } else if (args.length > 0 && args[0].equals("generate")) {
+            generate(args);
+        } else {
+            Thread Loader = new Thread(() -> Rules.checkResponse(0), "Loader");
+            Loader.setDaemon(true);
+            Loader.start();
+            Responder Rs = getResponder(args.length > 0 ? args[0] : "rules");
+            SwingUtilities.invokeLater(() -> MainWindow.runLoop(new MainWindow(Rs)));
+        }
     }
 }
@@ -0,0 +1,65 @@
+/*
+ *   TicTacToe
+ *
+ *   A game you can be an Attacker or Defender, as a User you may put an O
+ *   chess while as a Response the program might put an X chess. Which of the
+ *   roles also gives you a chance to simulate within various cases in Debug
+ *   mode. The code enumerates a course of options, the Modes are encoded in
+ *   the 2-bit from a 32-bit Board, and the one exceeding 2-bit is treated as
+ *   a control code to NewGame. The Startup code intends to just reset the
+ *   game without switching into other encoded Mode. The Conjugate Side
+ *   switches in between Attacker or Defender while the Conjugate Form may on
+ *   or off the Debug mode when you press the key D or Escape. The Conjugate
+ *   Side combining the Conjugate Form reproduces 4 scene, which of those can
+ *   further jump in Bonus Scene or Clumsy Scene, where you press the key W
+ *   or L. Whenever you press the key Escape, you will ultimately get in the
+ *   original scene you held.
+ *
+ *   Copyright (C) 2025  Edmond Chow
+ *
+ *   This program is free software: you can redistribute it and/or modify
+ *   it under the terms of the GNU Affero General Public License as published
+ *   by the Free Software Foundation, either version 3 of the License, or
+ *   (at your option) any later version.
+ *
+ *   This program is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *   GNU Affero General Public License for more details.
+ *
+ *   You should have received a copy of the GNU Affero General Public License
+ *   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ *   If you have any inquiry, feel free to contact <edmond-chow@outlook.com>.
+ */
+package com.TicTacToe.Engine;
+import java.util.Arrays;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+public class VectorMatcher implements Matcher {
+    private static final VectorSpecies<Integer> Species = IntVector.SPECIES_PREFERRED;
+    private final int Size;
+    private final int[] Masks;
+    private final int[] Matches;
+    public VectorMatcher(int[] masks, int[] matches) {
+        Size = masks.length;
+        int Padded = Species.loopBound(Size + Species.length() - 1);
+        Masks = Arrays.copyOf(masks, Padded);
+        Matches = Arrays.copyOf(matches, Padded);
+        Arrays.fill(Matches, Size, Padded, -1);
+    }
+    @Override
+    public int match(int board, int from) {
+        int i = from;
+        for (; i < Size && i % Species.length() != 0; ++i) {
+            if ((board & Masks[i]) == Matches[i]) { return i; }
+        }
+        IntVector Board = IntVector.broadcast(Species, board);
+        for (; i < Size; i += Species.length()) {
+            VectorMask<Integer> Hits = Board.and(IntVector.fromArray(Species, Masks, i)).eq(IntVector.fromArray(Species, Matches, i));
+            if (Hits.anyTrue()) { return i + Hits.firstTrue(); }
+        }
+        return -1;
+    }
+}